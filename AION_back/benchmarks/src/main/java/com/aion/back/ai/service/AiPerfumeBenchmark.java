@@ -0,0 +1,81 @@
+package com.aion.back.ai.service;
+
+import com.aion.back.ai.dto.ImageToScentResponse;
+import com.aion.back.bench.SyntheticCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AiPerfumeService 후처리 경로
+ * - matchPerfumesFromDb: 이미지 → 향 추천 키워드로 카탈로그 매칭 (저장소에서 앞 200개만 읽음)
+ * - extractAndParseRecipe: Claude 응답 본문에서 <recipe> JSON 추출 + 유효성 확인
+ * 외부 호출(LlmTransport 등)은 쓰지 않으므로 null로 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiPerfumeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int catalogSize;
+
+    private AiPerfumeService service;
+    private String claudeResponse;
+
+    private final List<String> keywords = List.of("로즈", "머스크", "우드", "vanilla", "포근한");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        service = new AiPerfumeService(
+                SyntheticCatalog.perfumeRepository(SyntheticCatalog.perfumes(catalogSize)),
+                SyntheticCatalog.thumbnailResolver(),
+                null, null, null, null,
+                new SimpleMeterRegistry(),
+                objectMapper);
+        claudeResponse = claudeResponse();
+    }
+
+    @Benchmark
+    public List<ImageToScentResponse.RecommendedPerfume> matchPerfumesFromDb() {
+        return service.matchPerfumesFromDb(keywords, "포근한");
+    }
+
+    @Benchmark
+    public String extractAndParseRecipe() {
+        return service.extractAndParseRecipe(claudeResponse);
+    }
+
+    // 실제 조향 응답과 비슷한 길이의 설명 + 레시피 JSON
+    private static String claudeResponse() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            sb.append("요청하신 포근한 겨울 무드를 위해 앰버와 바닐라를 베이스로 깔고, ")
+                    .append("탑에는 베르가못으로 첫인상을 밝게 잡았습니다. ");
+        }
+        sb.append("<recipe>{\"title\":\"겨울 담요\",\"topNotes\":[");
+        appendNotes(sb, new String[]{"베르가못", "핑크페퍼", "만다린"});
+        sb.append("],\"middleNotes\":[");
+        appendNotes(sb, new String[]{"로즈", "자스민", "오스만투스", "아이리스"});
+        sb.append("],\"baseNotes\":[");
+        appendNotes(sb, new String[]{"앰버", "바닐라", "샌달우드", "머스크"});
+        sb.append("]}</recipe>\n마음에 드시면 비율을 조금씩 조정해 보세요.");
+        return sb.toString();
+    }
+
+    private static void appendNotes(StringBuilder sb, String[] names) {
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"ingredientId\":").append(i + 1)
+                    .append(",\"ingredientName\":\"").append(names[i])
+                    .append("\",\"ratio\":0.").append(10 + i * 5).append('}');
+        }
+    }
+}
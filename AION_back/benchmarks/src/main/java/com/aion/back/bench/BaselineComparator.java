@@ -0,0 +1,80 @@
+package com.aion.back.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JMH 결과(JSON) 두 개를 비교해서 기준선 대비 느려졌거나 할당이 늘어난 항목을 출력
+ *
+ * 사용: java -cp target/benchmarks.jar com.aion.back.bench.BaselineComparator \
+ *         baseline/jmh-baseline.json target/jmh-result.json [허용 비율%, 기본 10]
+ * 허용 비율을 넘는 항목이 하나라도 있으면 종료 코드 1
+ */
+public final class BaselineComparator {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineComparator <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        Map<String, double[]> baseline = load(new File(args[0]));
+        Map<String, double[]> current = load(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %8s %14s %14s %8s%n",
+                "benchmark", "base", "current", "time%", "base B/op", "cur B/op", "alloc%");
+        for (Map.Entry<String, double[]> e : new TreeMap<>(current).entrySet()) {
+            double[] base = baseline.get(e.getKey());
+            if (base == null) {
+                System.out.printf("%-90s %14s %14.3f  (new)%n", e.getKey(), "-", e.getValue()[0]);
+                continue;
+            }
+            double[] cur = e.getValue();
+            double timeDelta = percent(base[0], cur[0]);
+            double allocDelta = percent(base[1], cur[1]);
+            boolean regressed = timeDelta > threshold || allocDelta > threshold;
+            if (regressed) regressions++;
+            System.out.printf("%-90s %14.3f %14.3f %+7.1f%% %14.0f %14.0f %+7.1f%%%s%n",
+                    e.getKey(), base[0], cur[0], timeDelta, base[1], cur[1], allocDelta,
+                    regressed ? "  << REGRESSION" : "");
+        }
+
+        System.out.printf("%n허용 %.1f%% 초과: %d 건%n", threshold, regressions);
+        if (regressions > 0) System.exit(1);
+    }
+
+    // "벤치마크명 {파라미터}" → [평균 시간, 연산당 할당 바이트(-prof gc 없으면 NaN)]
+    private static Map<String, double[]> load(File file) throws Exception {
+        Map<String, double[]> result = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            String key = run.path("benchmark").asText() + " " + new TreeMap<>(params(run.path("params")));
+            double score = run.path("primaryMetric").path("score").asDouble();
+            JsonNode alloc = run.path("secondaryMetrics").path(ALLOC_NORM);
+            result.put(key, new double[]{score, alloc.isMissingNode() ? Double.NaN : alloc.path("score").asDouble()});
+        }
+        return result;
+    }
+
+    private static Map<String, String> params(JsonNode node) {
+        Map<String, String> params = new LinkedHashMap<>();
+        node.fields().forEachRemaining(f -> params.put(f.getKey(), f.getValue().asText()));
+        return params;
+    }
+
+    private static double percent(double base, double current) {
+        if (Double.isNaN(base) || Double.isNaN(current) || base == 0) return 0.0;
+        return (current - base) / base * 100.0;
+    }
+}
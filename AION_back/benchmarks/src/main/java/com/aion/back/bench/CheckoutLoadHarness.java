@@ -0,0 +1,314 @@
+package com.aion.back.bench;
+
+import com.aion.back.BackApplication;
+import com.aion.back.order.dto.request.OrderCheckoutRequestDto;
+import com.aion.back.order.service.OrderService;
+import com.aion.back.point.repository.PointLedgerJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제 동시성 검증 (실제 Postgres 필요, db/point-ledger.sql 적용 후)
+ *
+ * 백엔드 애플리케이션 컨텍스트(웹 서버 제외)를 지정한 DB로 띄우고 실제 OrderService.checkout 빈을 호출한다.
+ * 임시 회원 한 명과 그 회원의 쿠폰 한 장, 요청 수만큼의 커스텀 향수 카트 행을 만든 뒤
+ * 같은 회원의 결제(카트 행 하나씩 선택 구매)를 여러 스레드에서 동시에 실행한다. 요청의 절반은 같은 쿠폰을 함께 사용한다.
+ * 토큰은 실행마다 만든 ES256 키로 서명하고, 그 공개키를 supabase.jwt.x / y 로 넘겨 검증 경로도 그대로 탄다.
+ * 쿠폰이 한 번만 사용됐는지, 잔액이 한 번도 음수가 되지 않았는지, 차감 합계 / 주문 / 이력 / 버킷이 맞는지 확인하고
+ * 끝나면 임시 데이터는 삭제.
+ *
+ * 통계 집계(StatsAggregator)는 임시 주문이 일별 매출에 더해지지 않도록 빼고 띄운다.
+ * 결제 금액은 적립 포인트(0.1%)가 0이 되도록 잡아 아웃박스 적립이 잔액 검증에 끼어들지 않게 한다.
+ *
+ * 사용: java -cp target/benchmarks.jar com.aion.back.bench.CheckoutLoadHarness \
+ *         <jdbcUrl> <user> <password> [요청 수, 기본 500] [스레드, 기본 32] [시작 포인트, 기본 10000] [결제당 사용, 기본 300]
+ * 위반이 하나라도 있으면 종료 코드 1
+ */
+public final class CheckoutLoadHarness {
+
+    // 쿠폰 할인액. 결제 금액 = 사용 포인트 + 900 → 최종 결제액 1000원 미만이라 적립 0
+    private static final int COUPON_DISCOUNT = 100;
+    private static final int ITEM_MARGIN = 900;
+
+    private CheckoutLoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: CheckoutLoadHarness <jdbcUrl> <user> <password> "
+                    + "[requests] [threads] [startPoints] [pointsPerCheckout]");
+            System.exit(2);
+        }
+        int requests = args.length > 3 ? Integer.parseInt(args[3]) : 500;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : 32;
+        int startPoints = args.length > 5 ? Integer.parseInt(args[5]) : 10000;
+        int pointsPerCheckout = args.length > 6 ? Integer.parseInt(args[6]) : 300;
+
+        KeyPair signingKey = newSigningKey();
+        ECPublicKey publicKey = (ECPublicKey) signingKey.getPublic();
+
+        boolean ok;
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(Map.of(
+                        "spring.datasource.url", args[0],
+                        "spring.datasource.username", args[1],
+                        "spring.datasource.password", args[2],
+                        "spring.datasource.hikari.maximum-pool-size", threads + 4,
+                        "spring.jpa.show-sql", false,
+                        "supabase.jwt.x", coordinate(publicKey.getW().getAffineX()),
+                        "supabase.jwt.y", coordinate(publicKey.getW().getAffineY())))
+                .initializers(ctx -> ctx.addBeanFactoryPostProcessor(
+                        beanFactory -> ((BeanDefinitionRegistry) beanFactory).removeBeanDefinition("statsAggregator")))
+                .run()) {
+
+            NamedParameterJdbcTemplate jdbc = context.getBean(NamedParameterJdbcTemplate.class);
+            TransactionTemplate tx = context.getBean(TransactionTemplate.class);
+            PointLedgerJdbcRepository ledger = context.getBean(PointLedgerJdbcRepository.class);
+            OrderService orderService = context.getBean(OrderService.class);
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            Fixture fixture = createFixture(jdbc, ledger, tx, startPoints, requests, pointsPerCheckout);
+            try {
+                String token = "Bearer " + Jwts.builder()
+                        .setSubject("checkout-harness")
+                        .claim("email", fixture.email())
+                        .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                        .signWith(signingKey.getPrivate(), SignatureAlgorithm.ES256)
+                        .compact();
+                Result result = run(jdbc, orderService, objectMapper, token, fixture,
+                        requests, threads, pointsPerCheckout);
+                ok = verify(jdbc, fixture, result, startPoints, pointsPerCheckout);
+            } finally {
+                cleanup(jdbc, fixture);
+            }
+        }
+        System.exit(ok ? 0 : 1);
+    }
+
+    private static KeyPair newSigningKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    // JWK 좌표 형식 (32바이트 부호 없는 빅엔디언, base64url)
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static Fixture createFixture(NamedParameterJdbcTemplate jdbc, PointLedgerJdbcRepository ledger,
+                                         TransactionTemplate tx, int startPoints, int requests, int pointsPerCheckout) {
+        String suffix = Long.toString(System.nanoTime(), 36);
+        String email = "checkout-harness-" + suffix + "@example.invalid";
+
+        Long userId = jdbc.queryForObject("""
+                INSERT INTO "Users" (supabase_uid, email, name, phone, role, account_status,
+                                     total_points, join_date, created_at)
+                VALUES (:uid, :email, 'checkout-harness', :phone, 'USER', 'ACTIVE', :points, NOW(), NOW())
+                RETURNING user_id
+                """, new MapSqlParameterSource()
+                .addValue("uid", "checkout-harness-" + suffix)
+                .addValue("email", email)
+                .addValue("phone", "harness-" + suffix)
+                .addValue("points", startPoints), Long.class);
+
+        Long couponId = jdbc.queryForObject("""
+                INSERT INTO "Coupons" (code, discount_type, discount_value, usage_limit, created_at)
+                VALUES (:code, 'FIXED', :discount, 1, NOW())
+                RETURNING id
+                """, new MapSqlParameterSource()
+                .addValue("code", "HARNESS-" + suffix.toUpperCase())
+                .addValue("discount", COUPON_DISCOUNT), Long.class);
+
+        Long userCouponId = jdbc.queryForObject("""
+                INSERT INTO "UserCoupons" (user_email, coupon_id, is_used)
+                VALUES (:email, :couponId, false)
+                RETURNING id
+                """, new MapSqlParameterSource()
+                .addValue("email", email)
+                .addValue("couponId", couponId), Long.class);
+
+        // 결제 한 건당 카트 행 하나 (재고 차감이 없는 커스텀 향수)
+        List<Long> cartIds = jdbc.queryForList("""
+                INSERT INTO "Carts" (user_id, quantity, item_type, is_custom, custom_name, custom_price, created_at)
+                SELECT :userId, 1, 'CUSTOM', true, 'checkout-harness', :price, NOW()
+                  FROM generate_series(1, :requests)
+                RETURNING cart_id
+                """, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("price", pointsPerCheckout + ITEM_MARGIN)
+                .addValue("requests", requests), Long.class);
+
+        // 잔액 = 버킷 합 불변식에 맞춰 시작 포인트도 버킷 하나로
+        tx.executeWithoutResult(status -> {
+            ledger.insertBucket(userId, startPoints, LocalDateTime.now().plusYears(1), null);
+            ledger.refreshSnapshots(List.of(userId));
+        });
+        return new Fixture(userId, email, couponId, userCouponId, cartIds);
+    }
+
+    private static Result run(NamedParameterJdbcTemplate jdbc, OrderService orderService, ObjectMapper objectMapper,
+                              String token, Fixture fixture, int requests, int threads, int pointsPerCheckout)
+            throws InterruptedException {
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        AtomicInteger couponCheckouts = new AtomicInteger();
+        AtomicInteger pointCheckouts = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < requests; i++) {
+            boolean withCoupon = i % 2 == 0;
+            Map<String, Object> body = new HashMap<>();
+            body.put("cartItemIds", List.of(fixture.cartIds().get(i)));
+            body.put("userCouponId", withCoupon ? fixture.userCouponId() : null);
+            body.put("pointsToUse", pointsPerCheckout);
+            // 컨트롤러와 같은 Jackson 역직렬화로 요청 DTO 생성
+            OrderCheckoutRequestDto request = objectMapper.convertValue(body, OrderCheckoutRequestDto.class);
+            executor.execute(() -> {
+                String outcome;
+                try {
+                    start.await();
+                    orderService.checkout(token, request);
+                    if (withCoupon) couponCheckouts.incrementAndGet();
+                    pointCheckouts.incrementAndGet();
+                    outcome = withCoupon ? "ok (coupon)" : "ok";
+                } catch (Exception e) {
+                    outcome = String.valueOf(e.getMessage());
+                }
+                outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+            });
+        }
+
+        // 실행 중 잔액을 계속 읽어 최솟값 기록 (음수가 한 번이라도 보이면 실패)
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger minBalance = new AtomicInteger(Integer.MAX_VALUE);
+        Thread sampler = new Thread(() -> {
+            MapSqlParameterSource id = new MapSqlParameterSource("userId", fixture.userId());
+            while (running.get()) {
+                Integer balance = jdbc.queryForObject(
+                        "SELECT COALESCE(total_points, 0) FROM \"Users\" WHERE user_id = :userId", id, Integer.class);
+                minBalance.accumulateAndGet(balance, Math::min);
+            }
+        }, "checkout-harness-sampler");
+
+        long started = System.nanoTime();
+        sampler.start();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        running.set(false);
+        sampler.join();
+
+        System.out.printf("결제 %d건 / 스레드 %d / %d ms (%.0f req/s)%n",
+                requests, threads, elapsedMs, requests * 1000.0 / Math.max(1, elapsedMs));
+        outcomes.forEach((k, v) -> System.out.printf("  %-30s %d%n", k, v.sum()));
+        return new Result(couponCheckouts.get(), pointCheckouts.get(), minBalance.get());
+    }
+
+    private static boolean verify(NamedParameterJdbcTemplate jdbc, Fixture fixture, Result result,
+                                  int startPoints, int pointsPerCheckout) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", fixture.userId())
+                .addValue("userCouponId", fixture.userCouponId());
+        Map<String, Object> row = jdbc.queryForMap("""
+                SELECT u.total_points,
+                       (SELECT is_used FROM "UserCoupons" WHERE id = :userCouponId) AS coupon_used,
+                       (SELECT COUNT(*) FROM "Orders" o WHERE o.user_id = u.user_id) AS orders,
+                       (SELECT COUNT(*) FROM "Orders" o
+                         WHERE o.user_id = u.user_id AND o.coupon_discount > 0) AS coupon_orders,
+                       (SELECT COUNT(*) FROM "Carts" c WHERE c.user_id = u.user_id) AS carts_left,
+                       (SELECT COUNT(*) FROM "Points_History" h
+                         WHERE h.user_id = u.user_id AND h.amount < 0) AS use_histories,
+                       (SELECT COALESCE(SUM(b.remaining), 0) FROM "Point_Buckets" b
+                         WHERE b.user_id = u.user_id) AS bucket_remaining
+                  FROM "Users" u WHERE u.user_id = :userId
+                """, params);
+
+        long balance = ((Number) row.get("total_points")).longValue();
+        boolean couponUsed = Boolean.TRUE.equals(row.get("coupon_used"));
+        long orders = ((Number) row.get("orders")).longValue();
+        long couponOrders = ((Number) row.get("coupon_orders")).longValue();
+        long cartsLeft = ((Number) row.get("carts_left")).longValue();
+        long histories = ((Number) row.get("use_histories")).longValue();
+        long bucketRemaining = ((Number) row.get("bucket_remaining")).longValue();
+        long spent = (long) result.pointCheckouts() * pointsPerCheckout;
+        int requests = fixture.cartIds().size();
+
+        boolean ok = true;
+        ok &= check(result.couponCheckouts() == 1 && couponUsed && couponOrders == 1, "쿠폰 1회만 사용",
+                "쿠폰 결제 성공 " + result.couponCheckouts() + "건, 쿠폰 할인 주문 " + couponOrders + "건, is_used=" + couponUsed);
+        ok &= check(result.minBalance() >= 0 && balance >= 0, "잔액 음수 없음",
+                "실행 중 최소 " + result.minBalance() + ", 최종 " + balance);
+        ok &= check(spent <= startPoints && balance == startPoints - spent, "차감 합계 일치",
+                "시작 " + startPoints + " - 성공 " + result.pointCheckouts() + "건 x " + pointsPerCheckout + " = " + balance);
+        ok &= check(orders == result.pointCheckouts() && cartsLeft == requests - orders, "주문 / 카트 일치",
+                "주문 " + orders + "건, 남은 카트 " + cartsLeft + "건 / 성공 " + result.pointCheckouts() + "건");
+        ok &= check(histories == result.pointCheckouts(), "사용 이력 일치",
+                "이력 " + histories + "건 / 성공 " + result.pointCheckouts() + "건");
+        ok &= check(bucketRemaining == balance, "버킷 합계 = 잔액",
+                "버킷 " + bucketRemaining + " / 잔액 " + balance);
+        return ok;
+    }
+
+    private static boolean check(boolean passed, String name, String detail) {
+        System.out.printf("[%s] %s - %s%n", passed ? "OK" : "FAIL", name, detail);
+        return passed;
+    }
+
+    private static void cleanup(NamedParameterJdbcTemplate jdbc, Fixture fixture) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", fixture.userId())
+                .addValue("email", fixture.email())
+                .addValue("couponId", fixture.couponId());
+        jdbc.update("""
+                DELETE FROM "Order_Items" WHERE order_id IN (SELECT order_id FROM "Orders" WHERE user_id = :userId)
+                """, params);
+        jdbc.update("DELETE FROM \"Orders\" WHERE user_id = :userId", params);
+        jdbc.update("DELETE FROM \"Carts\" WHERE user_id = :userId", params);
+        jdbc.update("DELETE FROM \"Points_History\" WHERE user_id = :userId", params);
+        jdbc.update("DELETE FROM \"Point_Buckets\" WHERE user_id = :userId", params);
+        jdbc.update("DELETE FROM \"Point_Balance_Snapshots\" WHERE user_id = :userId", params);
+        jdbc.update("DELETE FROM \"UserCoupons\" WHERE user_email = :email", params);
+        jdbc.update("DELETE FROM \"Coupons\" WHERE id = :couponId", params);
+        jdbc.update("DELETE FROM \"Users\" WHERE user_id = :userId", params);
+    }
+
+    private record Fixture(Long userId, String email, Long couponId, Long userCouponId, List<Long> cartIds) {}
+
+    private record Result(int couponCheckouts, int pointCheckouts, int minBalance) {}
+}
@@ -0,0 +1,172 @@
+package com.aion.back.bench;
+
+import com.aion.back.event.repository.EventDrawJdbcRepository;
+import com.aion.back.event.service.EventDrawEngine;
+import com.aion.back.outbox.repository.OutboxJdbcRepository;
+import com.aion.back.outbox.service.OutboxService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EventDrawEngine 동시 응모 부하 테스트 (실제 Postgres 필요, db/event-draw.sql 적용 후)
+ *
+ * 임시 이벤트를 하나 만들고 기존 회원들이 여러 스레드에서 동시에 (중복 포함) 응모한 뒤
+ * 중복 응모 / 정원 초과 / 당첨 한도 초과 / 카운터 불일치가 없는지 확인한다. 끝나면 임시 이벤트는 삭제.
+ *
+ * 사용: java -cp target/benchmarks.jar com.aion.back.bench.EventDrawLoadHarness \
+ *         <jdbcUrl> <user> <password> [요청 수, 기본 5000] [스레드, 기본 64] [정원, 기본 1000] [당첨 한도, 기본 100]
+ * 위반이 하나라도 있으면 종료 코드 1
+ */
+public final class EventDrawLoadHarness {
+
+    private static final long SEED = 42L;
+
+    private EventDrawLoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: EventDrawLoadHarness <jdbcUrl> <user> <password> "
+                    + "[requests] [threads] [maxParticipants] [maxWinners]");
+            System.exit(2);
+        }
+        int requests = args.length > 3 ? Integer.parseInt(args[3]) : 5000;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : 64;
+        int maxParticipants = args.length > 5 ? Integer.parseInt(args[5]) : 1000;
+        int maxWinners = args.length > 6 ? Integer.parseInt(args[6]) : 100;
+
+        boolean ok;
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl(args[0]);
+            dataSource.setUsername(args[1]);
+            dataSource.setPassword(args[2]);
+            dataSource.setMaximumPoolSize(threads);
+
+            NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(dataSource);
+            TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            EventDrawEngine engine = new EventDrawEngine(new EventDrawJdbcRepository(jdbc),
+                    new OutboxService(new OutboxJdbcRepository(jdbc), new ObjectMapper()), SEED);
+
+            // 요청 수보다 회원이 적으면 같은 회원이 여러 번 응모 → 중복 차단 확인
+            List<Map<String, Object>> members = jdbc.queryForList(
+                    "SELECT user_id, email FROM \"Users\" ORDER BY user_id LIMIT :limit",
+                    new MapSqlParameterSource("limit", Math.max(1, requests / 2)));
+            if (members.isEmpty()) {
+                System.err.println("Users 테이블에 회원이 없습니다.");
+                System.exit(2);
+            }
+
+            Long eventId = jdbc.queryForObject("""
+                    INSERT INTO "Events" (title, event_type, start_date, end_date, win_probability,
+                                          max_participants, max_winners, created_at)
+                    VALUES ('load-harness', 'POINT', :today, :today, 50, :maxParticipants, :maxWinners, NOW())
+                    RETURNING id
+                    """, new MapSqlParameterSource()
+                    .addValue("today", LocalDate.now())
+                    .addValue("maxParticipants", maxParticipants)
+                    .addValue("maxWinners", maxWinners), Long.class);
+
+            try {
+                Map<String, LongAdder> outcomes = run(engine, tx, members, eventId, requests, threads);
+                ok = verify(jdbc, eventId, outcomes, maxParticipants, maxWinners);
+            } finally {
+                MapSqlParameterSource id = new MapSqlParameterSource("eventId", eventId);
+                jdbc.update("DELETE FROM \"EventParticipations\" WHERE event_id = :eventId", id);
+                jdbc.update("DELETE FROM \"Events\" WHERE id = :eventId", id);
+            }
+        }
+        System.exit(ok ? 0 : 1);
+    }
+
+    private static Map<String, LongAdder> run(EventDrawEngine engine, TransactionTemplate tx,
+                                              List<Map<String, Object>> members, Long eventId,
+                                              int requests, int threads) throws InterruptedException {
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        SplittableRandom picker = new SplittableRandom(SEED);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < requests; i++) {
+            Map<String, Object> member = members.get(picker.nextInt(members.size()));
+            Long userId = ((Number) member.get("user_id")).longValue();
+            String email = (String) member.get("email");
+            executor.execute(() -> {
+                String outcome;
+                try {
+                    start.await();
+                    Boolean won = tx.execute(status -> engine.draw(eventId, userId, email));
+                    outcome = Boolean.TRUE.equals(won) ? "won" : "lost";
+                } catch (Exception e) {
+                    outcome = String.valueOf(e.getMessage());
+                }
+                outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+            });
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        System.out.printf("요청 %d건 / 스레드 %d / %d ms (%.0f req/s)%n",
+                requests, threads, elapsedMs, requests * 1000.0 / Math.max(1, elapsedMs));
+        outcomes.forEach((k, v) -> System.out.printf("  %-30s %d%n", k, v.sum()));
+        return outcomes;
+    }
+
+    private static boolean verify(NamedParameterJdbcTemplate jdbc, Long eventId, Map<String, LongAdder> outcomes,
+                                  int maxParticipants, int maxWinners) {
+        MapSqlParameterSource id = new MapSqlParameterSource("eventId", eventId);
+        Map<String, Object> rows = jdbc.queryForMap("""
+                SELECT COUNT(*) AS entries, COUNT(DISTINCT user_email) AS members,
+                       COUNT(*) FILTER (WHERE won) AS winners
+                  FROM "EventParticipations" WHERE event_id = :eventId
+                """, id);
+        Map<String, Object> counters = jdbc.queryForMap(
+                "SELECT participant_count, winner_count FROM \"Events\" WHERE id = :eventId", id);
+
+        long entries = ((Number) rows.get("entries")).longValue();
+        long distinct = ((Number) rows.get("members")).longValue();
+        long winners = ((Number) rows.get("winners")).longValue();
+        long participantCount = ((Number) counters.get("participant_count")).longValue();
+        long winnerCount = ((Number) counters.get("winner_count")).longValue();
+        long accepted = count(outcomes, "won") + count(outcomes, "lost");
+
+        boolean ok = true;
+        ok &= check(entries == distinct, "중복 응모 없음", entries + " 행 / " + distinct + " 명");
+        ok &= check(entries <= maxParticipants, "정원 초과 없음", entries + " / " + maxParticipants);
+        ok &= check(winners <= maxWinners, "당첨 한도 초과 없음", winners + " / " + maxWinners);
+        ok &= check(participantCount == entries && winnerCount == winners, "카운터 일치",
+                "participant_count " + participantCount + ", winner_count " + winnerCount);
+        ok &= check(accepted == entries && count(outcomes, "won") == winners, "응답과 기록 일치",
+                "응답 " + accepted + "건 (당첨 " + count(outcomes, "won") + ")");
+        return ok;
+    }
+
+    private static long count(Map<String, LongAdder> outcomes, String key) {
+        LongAdder adder = outcomes.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static boolean check(boolean passed, String name, String detail) {
+        System.out.printf("[%s] %s - %s%n", passed ? "OK" : "FAIL", name, detail);
+        return passed;
+    }
+}
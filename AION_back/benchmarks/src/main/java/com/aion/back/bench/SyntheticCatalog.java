@@ -0,0 +1,193 @@
+package com.aion.back.bench;
+
+import com.aion.back.brand.entity.Brand;
+import com.aion.back.perfume.entity.Perfume;
+import com.aion.back.perfume.repository.PerfumeCatalogProjection;
+import com.aion.back.perfume.repository.PerfumeImageRepository;
+import com.aion.back.perfume.repository.PerfumeRepository;
+import com.aion.back.perfume.repository.PerfumeTagProjection;
+import com.aion.back.perfume.service.PerfumeCounterService;
+import com.aion.back.perfume.service.PerfumeThumbnailResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 카탈로그 + 저장소 스텁
+ *
+ * 시드 고정이라 같은 크기면 항상 같은 데이터. 이름/설명은 실제 카탈로그처럼 한글 + 영문 혼합.
+ * 저장소는 JDK 동적 프록시로 벤치마크가 실제로 호출하는 메서드만 응답한다. (DB 없음)
+ */
+public final class SyntheticCatalog {
+
+    private static final long SEED = 20260101L;
+
+    private static final String[] BRANDS = {
+            "샤넬", "딥티크", "조말론", "바이레도", "르라보", "톰포드", "메종마르지엘라", "에르메스", "크리드", "논픽션"
+    };
+    private static final String[] BRANDS_EN = {
+            "Chanel", "Diptyque", "Jo Malone", "Byredo", "Le Labo", "Tom Ford", "Maison Margiela", "Hermes", "Creed", "Nonfiction"
+    };
+    private static final String[] NAME_WORDS = {
+            "블랑쉬", "상탈", "로즈", "머스크", "베티버", "우드", "앰버", "시트러스", "라벤더", "자스민",
+            "피오니", "레더", "바닐라", "아이리스", "튜베로즈", "무화과", "베르가못", "샌달우드", "오스만투스", "화이트티"
+    };
+    private static final String[] NAME_WORDS_EN = {
+            "Blanche", "Santal", "Rose", "Musk", "Vetiver", "Oud", "Amber", "Citrus", "Lavender", "Jasmine",
+            "Peony", "Leather", "Vanilla", "Iris", "Tuberose", "Fig", "Bergamot", "Sandalwood", "Osmanthus", "White Tea"
+    };
+    private static final String[] MOODS = {
+            "따뜻한", "포근한", "청량한", "우아한", "관능적인", "깨끗한", "신비로운", "상쾌한", "차분한", "달콤한"
+    };
+    private static final String[] GENDERS = {"MALE", "FEMALE", "UNISEX"};
+    private static final String[] SEASONS = {"봄", "여름", "가을", "겨울"};
+    private static final String[] OCCASIONS = {"데일리", "데이트", "오피스", "여행", "파티"};
+
+    private SyntheticCatalog() {
+    }
+
+    public static List<Perfume> perfumes(int size) {
+        Random random = new Random(SEED);
+        List<Brand> brands = new ArrayList<>();
+        for (int i = 0; i < BRANDS.length; i++) {
+            brands.add(Brand.builder()
+                    .brandId((long) i + 1)
+                    .brandName(BRANDS[i])
+                    .brandNameEn(BRANDS_EN[i])
+                    .build());
+        }
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Perfume> perfumes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int w1 = random.nextInt(NAME_WORDS.length);
+            int w2 = random.nextInt(NAME_WORDS.length);
+            String mood = MOODS[random.nextInt(MOODS.length)];
+            int price = 50_000 + random.nextInt(40) * 10_000;
+            Integer saleRate = random.nextInt(4) == 0 ? 10 + random.nextInt(3) * 10 : null;
+
+            perfumes.add(Perfume.builder()
+                    .perfumeId((long) i + 1)
+                    .name(NAME_WORDS[w1] + " " + NAME_WORDS[w2] + " " + (i % 100))
+                    .nameEn(NAME_WORDS_EN[w1] + " " + NAME_WORDS_EN[w2])
+                    .brand(brands.get(random.nextInt(brands.size())))
+                    .description(mood + " " + NAME_WORDS[w1] + " 노트와 " + NAME_WORDS[w2]
+                            + " 잔향이 어우러진 " + mood + " 향. 데일리로 뿌리기 좋은 오 드 퍼퓸.")
+                    .price(price)
+                    .saleRate(saleRate)
+                    .salePrice(saleRate != null ? price * (100 - saleRate) / 100 : null)
+                    .volumeMl(random.nextBoolean() ? 50 : 100)
+                    .gender(GENDERS[random.nextInt(GENDERS.length)])
+                    .totalStock(random.nextInt(500))
+                    .salesCount(random.nextInt(5_000))
+                    .viewCount(random.nextInt(50_000))
+                    .wishlistCount(random.nextInt(2_000))
+                    .avgRating(1 + random.nextInt(40) / 10.0)
+                    .reviewCount(random.nextInt(300))
+                    .isActive(true)
+                    .imageUrl("https://cdn.example.com/perfumes/" + (i + 1) + ".jpg")
+                    .createdAt(base.plusMinutes(i))
+                    .build());
+        }
+        return perfumes;
+    }
+
+    /**
+     * 향수 저장소: findByIsActiveTrue(Pageable)와 카탈로그 인덱스 적재용
+     * findActiveCatalogEntries / findActiveCatalogTags 만 응답
+     */
+    public static PerfumeRepository perfumeRepository(List<Perfume> catalog) {
+        return stub(PerfumeRepository.class, (name, args) -> {
+            switch (name) {
+                case "findByIsActiveTrue": {
+                    Pageable pageable = (Pageable) args[0];
+                    int from = (int) Math.min(pageable.getOffset(), catalog.size());
+                    int to = Math.min(from + pageable.getPageSize(), catalog.size());
+                    return new PageImpl<>(catalog.subList(from, to), pageable, catalog.size());
+                }
+                case "findActiveCatalogEntries":
+                    return catalog.stream().map(CatalogRow::new).toList();
+                case "findActiveCatalogTags":
+                    return catalogTags(catalog);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    /** 이름 앞 두 단어를 노트 태그로, 계절 1개 / 상황 1개를 ID 기준으로 고정 배정 */
+    private static List<PerfumeTagProjection> catalogTags(List<Perfume> catalog) {
+        List<PerfumeTagProjection> tags = new ArrayList<>(catalog.size() * 4);
+        for (Perfume p : catalog) {
+            String[] words = p.getName().split(" ");
+            tags.add(new TagRow(p.getPerfumeId(), words[0], "NOTE"));
+            if (!words[1].equals(words[0])) tags.add(new TagRow(p.getPerfumeId(), words[1], "NOTE"));
+            tags.add(new TagRow(p.getPerfumeId(), SEASONS[(int) (p.getPerfumeId() % SEASONS.length)], "SEASON"));
+            tags.add(new TagRow(p.getPerfumeId(), OCCASIONS[(int) (p.getPerfumeId() % OCCASIONS.length)], "OCCASION"));
+        }
+        return tags;
+    }
+
+    /** 썸네일이 없는 이미지 저장소 → 리졸버는 첫 조회 이후 캐시로만 동작 */
+    public static PerfumeThumbnailResolver thumbnailResolver() {
+        PerfumeImageRepository images = stub(PerfumeImageRepository.class, (name, args) ->
+                name.equals("findThumbnailsByPerfumeIds") ? List.of() : null);
+        return new PerfumeThumbnailResolver(images, new SimpleMeterRegistry());
+    }
+
+    /** 반영(flush)은 호출하지 않으므로 DB 없이 생성 */
+    public static PerfumeCounterService counterService() {
+        return new PerfumeCounterService(null, new SimpleMeterRegistry());
+    }
+
+    private record CatalogRow(Perfume p) implements PerfumeCatalogProjection {
+        public Long getPerfumeId() { return p.getPerfumeId(); }
+        public String getName() { return p.getName(); }
+        public String getNameEn() { return p.getNameEn(); }
+        public String getBrandName() { return p.getBrand().getBrandName(); }
+        public String getGender() { return p.getGender(); }
+        public Integer getPrice() { return p.getPrice(); }
+        public Integer getSalePrice() { return p.getSalePrice(); }
+        public Double getAvgRating() { return p.getAvgRating(); }
+        public Integer getSalesCount() { return p.getSalesCount(); }
+        public Integer getWishlistCount() { return p.getWishlistCount(); }
+        public LocalDateTime getCreatedAt() { return p.getCreatedAt(); }
+        public String getDescription() { return p.getDescription(); }
+    }
+
+    private record TagRow(Long perfumeId, String tagName, String tagType) implements PerfumeTagProjection {
+        public Long getPerfumeId() { return perfumeId; }
+        public String getTagName() { return tagName; }
+        public String getTagType() { return tagType; }
+    }
+
+    private interface Answer {
+        Object answer(String methodName, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return type.getSimpleName() + "Stub";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    Object result = answer.answer(method.getName(), args);
+                    if (result == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return result;
+            }
+        });
+    }
+}
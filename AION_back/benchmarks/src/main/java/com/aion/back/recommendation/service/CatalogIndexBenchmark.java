@@ -0,0 +1,67 @@
+package com.aion.back.recommendation.service;
+
+import com.aion.back.bench.SyntheticCatalog;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CatalogIndex.search (추천 목록 기본 경로: BitSet 교집합 → 정렬 → 페이지 분할)
+ * RecommendationBenchmark의 전체 순회 필터와 같은 카탈로그 / 조건으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogIndexBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int catalogSize;
+
+    private CatalogIndex index;
+
+    private final Pageable latest = PageRequest.of(0, 20);
+    private final Pageable cheapest = PageRequest.of(0, 20, Sort.by(Sort.Order.asc("salePrice")));
+    private final Pageable bestSelling = PageRequest.of(2, 20, Sort.by(Sort.Order.desc("salesCount")));
+
+    private final CatalogIndex.Filter noFilter =
+            new CatalogIndex.Filter(null, null, null, null, null, null, null);
+    private final CatalogIndex.Filter searchFilter =
+            new CatalogIndex.Filter("로즈", null, "FEMALE", null, null, 80_000, 250_000);
+    private final CatalogIndex.Filter tagFilter =
+            new CatalogIndex.Filter(null, List.of("우드"), null, List.of("가을", "겨울"), List.of("데일리", "오피스"), null, null);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new CatalogIndex(SyntheticCatalog.perfumeRepository(SyntheticCatalog.perfumes(catalogSize)));
+        index.rebuild();
+        if (!index.isReady()) {
+            throw new IllegalStateException("카탈로그 인덱스 구축 실패");
+        }
+    }
+
+    /** 필터 없음, 최신순 첫 페이지 (전체 정렬) */
+    @Benchmark
+    public Page<Long> searchAll() {
+        return index.search(noFilter, latest);
+    }
+
+    /** 검색어 + 성별 + 가격 범위, 가격 오름차순 */
+    @Benchmark
+    public Page<Long> searchKeywordGenderPrice() {
+        return index.search(searchFilter, cheapest);
+    }
+
+    /** 태그(AND) + 계절 / 상황(OR), 판매량순 3페이지 */
+    @Benchmark
+    public Page<Long> searchTagsSeasonsOccasions() {
+        return index.search(tagFilter, bestSelling);
+    }
+}
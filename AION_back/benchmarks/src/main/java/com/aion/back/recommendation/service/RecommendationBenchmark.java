@@ -0,0 +1,66 @@
+package com.aion.back.recommendation.service;
+
+import com.aion.back.bench.SyntheticCatalog;
+import com.aion.back.perfume.entity.Perfume;
+import com.aion.back.perfume.repository.PerfumeRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RecommendationService 목록 경로 (DB 조회 대체 경로: 전체 카탈로그 필터 → 응답 변환)
+ * 카탈로그 전체를 한 번 훑는 비용을 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecommendationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int catalogSize;
+
+    private List<Perfume> catalog;
+    private RecommendationService service;
+
+    private final List<String> tags = List.of("우드", "앰버");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = SyntheticCatalog.perfumes(catalogSize);
+        PerfumeRepository repository = SyntheticCatalog.perfumeRepository(catalog);
+        service = new RecommendationService(repository, SyntheticCatalog.thumbnailResolver(), new CatalogIndex(repository),
+                SyntheticCatalog.counterService());
+    }
+
+    /** 검색어 + 성별 + 가격 범위 */
+    @Benchmark
+    public int applyFiltersSearch() {
+        int matched = 0;
+        for (Perfume p : catalog) {
+            if (service.applyFilters(p, "로즈", null, "FEMALE", null, null, 80_000, 250_000)) matched++;
+        }
+        return matched;
+    }
+
+    /** 태그 포함 검사 (이름 + 영문명 + 설명 문자열 결합 후 소문자 비교) */
+    @Benchmark
+    public int applyFiltersTags() {
+        int matched = 0;
+        for (Perfume p : catalog) {
+            if (service.applyFilters(p, null, tags, null, null, null, null, null)) matched++;
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public void convertToResponse(Blackhole bh) {
+        for (Perfume p : catalog) {
+            bh.consume(service.convertToResponse(p, null));
+        }
+    }
+}
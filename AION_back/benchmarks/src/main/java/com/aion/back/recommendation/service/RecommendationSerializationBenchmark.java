@@ -0,0 +1,59 @@
+package com.aion.back.recommendation.service;
+
+import com.aion.back.bench.SyntheticCatalog;
+import com.aion.back.perfume.entity.Perfume;
+import com.aion.back.perfume.repository.PerfumeRepository;
+import com.aion.back.recommendation.dto.response.RecommendationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * GET /api/recommendations 응답(Page<RecommendationResponse>) Jackson 직렬화
+ * ObjectMapper는 Spring Boot 기본 구성과 같은 Jackson2ObjectMapperBuilder로 생성
+ * catalogSize는 totalElements / totalPages 값에만 반영되고, 직렬화량은 pageSize가 결정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecommendationSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int catalogSize;
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<RecommendationResponse> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Perfume> catalog = SyntheticCatalog.perfumes(catalogSize);
+        PerfumeRepository repository = SyntheticCatalog.perfumeRepository(catalog);
+        RecommendationService service = new RecommendationService(
+                repository, SyntheticCatalog.thumbnailResolver(), new CatalogIndex(repository),
+                SyntheticCatalog.counterService());
+
+        List<RecommendationResponse> content = catalog.subList(0, pageSize).stream()
+                .map(p -> service.convertToResponse(p, null))
+                .collect(Collectors.toList());
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), catalog.size());
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -2,8 +2,10 @@ package com.aion.back;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BackApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(BackApplication.class, args);
@@ -1,7 +1,8 @@
 package com.aion.back.admin.controller;
 
+import com.aion.back.admin.service.AdminStatsSnapshotService;
 import com.aion.back.common.response.ApiResponse;
-import com.aion.back.member.entity.Member;
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -17,12 +18,13 @@ public class AdminStatsController {
 
     private final JdbcTemplate jdbcTemplate;
     private final MemberService memberService;
+    private final AdminStatsSnapshotService statsSnapshotService;
 
-    /** 토큰에서 Member를 꺼내고 ADMIN 여부를 검증 */
+    /** 토큰의 회원 권한이 ADMIN 인지 검증 */
     private void verifyAdmin(String token) {
-        Member member = memberService.getMemberEntityByToken(token);
-        // Users 테이블의 role 컬럼이 'ADMIN' 인지 확인
-        if (!"ADMIN".equalsIgnoreCase(member.getRole())) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        // Users 테이블의 role 컬럼이 'ADMIN' 인지 확인 (단기 캐시)
+        if (!"ADMIN".equalsIgnoreCase(principal.role())) {
             throw new RuntimeException("관리자 권한이 필요합니다.");
         }
     }
@@ -32,51 +34,18 @@ public class AdminStatsController {
     // ────────────────────────────────────────────────────────────
     @GetMapping("/summary")
     public ApiResponse<Map<String, Object>> getSummary(
-            @RequestHeader("Authorization") String token) {
+            @RequestHeader("Authorization") String token,
+            @RequestParam(defaultValue = "false") boolean fresh) {
 
         verifyAdmin(token);
 
-        Map<String, Object> result = new LinkedHashMap<>();
+        // 스냅샷 조회 (fresh=true면 즉시 재계산)
+        AdminStatsSnapshotService.Snapshot snapshot = fresh
+                ? statsSnapshotService.refreshNow()
+                : statsSnapshotService.getSummary();
 
-        // 오늘 매출/주문
-        Map<String, Object> today = jdbcTemplate.queryForMap(
-            "SELECT COALESCE(SUM(total_revenue),0) AS today_revenue, " +
-            "       COALESCE(SUM(order_count),0)   AS today_orders " +
-            "FROM \"Daily_Revenue_Stats\" WHERE stat_date = CURRENT_DATE"
-        );
-        result.put("todayRevenue", today.get("today_revenue"));
-        result.put("todayOrders",  today.get("today_orders"));
-
-        // 오늘 신규 가입
-        Object newUsers = jdbcTemplate.queryForObject(
-            "SELECT COUNT(*) FROM \"Users\" WHERE DATE(created_at) = CURRENT_DATE", Long.class);
-        result.put("todayNewUsers", newUsers);
-
-        // 전체 활성 회원
-        Object totalUsers = jdbcTemplate.queryForObject(
-            "SELECT COUNT(*) FROM \"Users\" WHERE account_status = 'ACTIVE'", Long.class);
-        result.put("totalUsers", totalUsers);
-
-        // 이번 달 매출
-        Object monthRevenue = jdbcTemplate.queryForObject(
-            "SELECT COALESCE(SUM(total_revenue),0) FROM \"Daily_Revenue_Stats\" " +
-            "WHERE stat_date >= DATE_TRUNC('month', CURRENT_DATE)", Long.class);
-        result.put("monthRevenue", monthRevenue);
-
-        // 총 장바구니 수
-        Object totalCarts = jdbcTemplate.queryForObject(
-            "SELECT COALESCE(SUM(cart_count),0) FROM \"Dashboard_Stats\"", Long.class);
-        result.put("totalCarts", totalCarts);
-
-        // 총 위시리스트 수
-        Object totalWishlists = jdbcTemplate.queryForObject(
-            "SELECT COALESCE(SUM(wishlist_count),0) FROM \"Dashboard_Stats\"", Long.class);
-        result.put("totalWishlists", totalWishlists);
-
-        // 미답변 문의
-        Object pendingInquiries = jdbcTemplate.queryForObject(
-            "SELECT COUNT(*) FROM \"Inquiries\" WHERE status = 'pending'", Long.class);
-        result.put("pendingInquiries", pendingInquiries);
+        Map<String, Object> result = new LinkedHashMap<>(snapshot.summary());
+        result.put("computedAt", snapshot.computedAt());
 
         return ApiResponse.success("통계 요약 조회 성공", result);
     }
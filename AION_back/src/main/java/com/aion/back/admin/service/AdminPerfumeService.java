@@ -1,9 +1,12 @@
 package com.aion.back.admin.service;
 
+import com.aion.back.inventory.service.InventoryService;
 import com.aion.back.perfume.entity.Perfume;
 import com.aion.back.perfume.repository.PerfumeRepository;
+import com.aion.back.perfume.service.PerfumeChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -16,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminPerfumeService {
 
     private final PerfumeRepository perfumeRepository;
+    private final InventoryService inventoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 관리자용 향수 목록 조회 (임시 간소화)
@@ -45,7 +50,9 @@ public class AdminPerfumeService {
     @Transactional
     public Perfume createPerfume(Perfume perfume) {
         log.info("향수 등록: {}", perfume.getName());
-        return perfumeRepository.save(perfume);
+        Perfume saved = perfumeRepository.save(perfume);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(saved.getPerfumeId()));
+        return saved;
     }
 
     /**
@@ -64,7 +71,9 @@ public class AdminPerfumeService {
         if (perfume.getSaleRate() != null) existing.setSaleRate(perfume.getSaleRate());
         if (perfume.getTotalStock() != null) existing.setTotalStock(perfume.getTotalStock());
 
-        return perfumeRepository.save(existing);
+        Perfume saved = perfumeRepository.save(existing);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(perfumeId));
+        return saved;
     }
 
     /**
@@ -74,6 +83,7 @@ public class AdminPerfumeService {
     public void deletePerfume(Long perfumeId) {
         log.info("향수 삭제: {}", perfumeId);
         perfumeRepository.deleteById(perfumeId);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(perfumeId));
     }
 
     /**
@@ -84,6 +94,7 @@ public class AdminPerfumeService {
         Perfume perfume = getPerfumeById(perfumeId);
         perfume.setIsActive(false);
         perfumeRepository.save(perfume);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(perfumeId));
         log.info("향수 단종 처리: {} - 사유: {}", perfumeId, reason);
     }
 
@@ -95,6 +106,7 @@ public class AdminPerfumeService {
         Perfume perfume = getPerfumeById(perfumeId);
         perfume.setIsActive(true);
         perfumeRepository.save(perfume);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(perfumeId));
         log.info("향수 복구: {}", perfumeId);
     }
 
@@ -103,10 +115,8 @@ public class AdminPerfumeService {
      */
     @Transactional
     public void adjustStock(Long perfumeId, Integer quantity, String reason) {
-        Perfume perfume = getPerfumeById(perfumeId);
-        Integer currentStock = perfume.getTotalStock() != null ? perfume.getTotalStock() : 0;
-        perfume.setTotalStock(currentStock + quantity);
-        perfumeRepository.save(perfume);
+        inventoryService.adjust(perfumeId, quantity);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(perfumeId));
         log.info("재고 조정: {} - 수량: {} - 사유: {}", perfumeId, quantity, reason);
     }
 
@@ -130,6 +140,7 @@ public class AdminPerfumeService {
         }
 
         perfumeRepository.saveAll(perfumes);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(perfumeIds));
         log.info("일괄 할인 적용: {} 개 상품 - 할인율: {}%", perfumeIds.size(), discountRate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.aion.back.admin.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 대시보드 KPI 요약 스냅샷
+ *
+ * 요약 쿼리들을 전용 풀에서 동시에 실행해 불변 스냅샷으로 만들어 두고,
+ * 요청은 스냅샷을 그대로 돌려준다. (admin.stats.refresh-interval-ms 마다 재계산)
+ * 재계산이 진행 중이면 새로 시작하지 않고 같은 결과를 기다린다.
+ * → 관리자 여러 명이 동시에 새로고침해도 DB 부하는 한 번분
+ */
+@Slf4j
+@Service
+public class AdminStatsSnapshotService {
+
+    public record Snapshot(Map<String, Object> summary, Instant computedAt) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService executor;
+    private final Timer refreshTimer;
+
+    private volatile Snapshot current;
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+
+    public AdminStatsSnapshotService(JdbcTemplate jdbcTemplate,
+                                     @Value("${admin.stats.refresh-threads:4}") int refreshThreads,
+                                     MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(refreshThreads, r -> {
+            Thread t = new Thread(r, "admin-stats-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.refreshTimer = Timer.builder("admin.stats.refresh").register(meterRegistry);
+        Gauge.builder("admin.stats.snapshot.age", this,
+                        s -> s.current == null ? -1 : (System.currentTimeMillis() - s.current.computedAt().toEpochMilli()) / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /** 현재 스냅샷. 아직 없으면 한 번 계산해서 반환 */
+    public Snapshot getSummary() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot : refreshNow();
+    }
+
+    /** 강제 재계산 (?fresh=true). 진행 중인 재계산이 있으면 그 결과를 공유 */
+    public Snapshot refreshNow() {
+        try {
+            return refresh().join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("통계 요약 계산에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${admin.stats.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh().join();
+        } catch (CompletionException e) {
+            // 이전 스냅샷을 그대로 유지
+            log.warn("통계 요약 재계산 실패: {}", e.getCause().getMessage());
+        }
+    }
+
+    private CompletableFuture<Snapshot> refresh() {
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) return running;
+
+        long started = System.nanoTime();
+        compute().whenComplete((snapshot, error) -> {
+            refreshTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            if (error == null) current = snapshot;
+            inFlight.set(null);
+            if (error == null) mine.complete(snapshot);
+            else mine.completeExceptionally(error);
+        });
+        return mine;
+    }
+
+    private CompletableFuture<Snapshot> compute() {
+        // 이번 달 매출과 오늘 매출/주문을 한 번에
+        CompletableFuture<Map<String, Object>> revenue = supply(() -> jdbcTemplate.queryForMap(
+                "SELECT COALESCE(SUM(total_revenue) FILTER (WHERE stat_date = CURRENT_DATE), 0) AS today_revenue, " +
+                "       COALESCE(SUM(order_count)   FILTER (WHERE stat_date = CURRENT_DATE), 0) AS today_orders, " +
+                "       COALESCE(SUM(total_revenue), 0) AS month_revenue " +
+                "FROM \"Daily_Revenue_Stats\" WHERE stat_date >= DATE_TRUNC('month', CURRENT_DATE)"));
+
+        // DATE(created_at) = CURRENT_DATE 대신 범위 조건 → created_at 인덱스 사용 가능
+        CompletableFuture<Long> newUsers = supply(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"Users\" " +
+                "WHERE created_at >= CURRENT_DATE AND created_at < CURRENT_DATE + 1", Long.class));
+
+        CompletableFuture<Long> totalUsers = supply(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"Users\" WHERE account_status = 'ACTIVE'", Long.class));
+
+        CompletableFuture<Map<String, Object>> dashboard = supply(() -> jdbcTemplate.queryForMap(
+                "SELECT COALESCE(SUM(cart_count), 0) AS total_carts, " +
+                "       COALESCE(SUM(wishlist_count), 0) AS total_wishlists " +
+                "FROM \"Dashboard_Stats\""));
+
+        CompletableFuture<Long> pendingInquiries = supply(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"Inquiries\" WHERE status = 'pending'", Long.class));
+
+        return CompletableFuture.allOf(revenue, newUsers, totalUsers, dashboard, pendingInquiries)
+                .thenApply(v -> {
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("todayRevenue", revenue.join().get("today_revenue"));
+                    result.put("todayOrders", revenue.join().get("today_orders"));
+                    result.put("todayNewUsers", newUsers.join());
+                    result.put("totalUsers", totalUsers.join());
+                    result.put("monthRevenue", revenue.join().get("month_revenue"));
+                    result.put("totalCarts", dashboard.join().get("total_carts"));
+                    result.put("totalWishlists", dashboard.join().get("total_wishlists"));
+                    result.put("pendingInquiries", pendingInquiries.join());
+                    return new Snapshot(Collections.unmodifiableMap(result), Instant.now());
+                });
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,245 @@
+package com.aion.back.admin.service;
+
+import com.aion.back.cart.service.CartItemAddedEvent;
+import com.aion.back.customization.service.ScentBlendSavedEvent;
+import com.aion.back.order.service.OrderPlacedEvent;
+import com.aion.back.wishlist.service.WishlistChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 관리자 통계 테이블 증분 집계
+ *
+ * 주문 / 찜 / 장바구니 / 향 조합 저장 이벤트(커밋 후)를 메모리에 합산해 두었다가
+ * admin.stats.aggregate-flush-interval-ms 마다 Daily_Revenue_Stats, Dashboard_Stats,
+ * Ingredient_Usage_Stats에 배치 UPSERT로 더한다. (전체 재집계 없이 대시보드 최신 유지)
+ * 반영 실패 시 합산분을 되돌려 다음 주기에 다시 시도하고, 종료 시에도 한 번 반영한다.
+ * admin.stats.aggregate-max-retries 번 연속 실패하면 쌓인 합산분을 버리고 기록만 남긴다. (DB 장애가 길어져도 메모리가 계속 늘지 않도록)
+ */
+@Slf4j
+@Component
+public class StatsAggregator {
+
+    // 향수별 합산 배열 인덱스
+    private static final int CARTS = 0;
+    private static final int WISHLISTS = 1;
+    private static final int ORDERS = 2;
+    private static final int REVENUE = 3;
+
+    private static final String UPSERT_DAILY = """
+            INSERT INTO "Daily_Revenue_Stats" AS d (stat_date, total_revenue, order_count, new_users)
+            VALUES (:statDate, :revenue, :orders, 0)
+            ON CONFLICT (stat_date) DO UPDATE
+               SET total_revenue = COALESCE(d.total_revenue, 0) + EXCLUDED.total_revenue,
+                   order_count = COALESCE(d.order_count, 0) + EXCLUDED.order_count
+            """;
+
+    private static final String UPSERT_PERFUME = """
+            INSERT INTO "Dashboard_Stats" AS ds (perfume_id, perfume_name, brand_name, cart_count,
+                                                wishlist_count, order_count, total_revenue, updated_at)
+            SELECT p.perfume_id, p.name, b.brand_name, :carts, GREATEST(:wishlists, 0), :orders, :revenue, NOW()
+              FROM "Perfumes" p
+              LEFT JOIN "Brands" b ON b.brand_id = p.brand_id
+             WHERE p.perfume_id = :perfumeId
+            ON CONFLICT (perfume_id) DO UPDATE
+               SET cart_count = COALESCE(ds.cart_count, 0) + :carts,
+                   wishlist_count = GREATEST(COALESCE(ds.wishlist_count, 0) + :wishlists, 0),
+                   order_count = COALESCE(ds.order_count, 0) + :orders,
+                   total_revenue = COALESCE(ds.total_revenue, 0) + :revenue,
+                   updated_at = NOW()
+            """;
+
+    // SET 절의 ius.* 는 갱신 전 값 → 기존 평균과 새 비율 합으로 평균을 이어서 계산
+    private static final String UPSERT_INGREDIENT = """
+            INSERT INTO "Ingredient_Usage_Stats" AS ius (ingredient_id, ingredient_name, usage_count, avg_ratio)
+            SELECT i.ingredient_id, i.name, :uses, :ratioSum / :uses
+              FROM "Ingredients" i
+             WHERE i.ingredient_id = :ingredientId
+            ON CONFLICT (ingredient_id) DO UPDATE
+               SET avg_ratio = (COALESCE(ius.avg_ratio, 0) * COALESCE(ius.usage_count, 0) + :ratioSum)
+                               / (COALESCE(ius.usage_count, 0) + :uses),
+                   usage_count = COALESCE(ius.usage_count, 0) + :uses
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final int maxRetries;
+
+    // 이벤트 스레드에서 합산, 반영 시 통째로 교체
+    private final Object lock = new Object();
+    private Pending pending = new Pending();
+    private int consecutiveFailures;
+
+    public StatsAggregator(NamedParameterJdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${admin.stats.aggregate-max-retries:60}") int maxRetries,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxRetries = maxRetries;
+        this.flushTimer = Timer.builder("admin.stats.aggregate.flush").register(meterRegistry);
+        this.droppedCounter = Counter.builder("admin.stats.aggregate.dropped").register(meterRegistry);
+    }
+
+    // ══════════════════════════════════════════════════════════════
+    // 이벤트 합산
+    // ══════════════════════════════════════════════════════════════
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        synchronized (lock) {
+            long[] daily = pending.daily.computeIfAbsent(event.orderDate(), d -> new long[2]);
+            daily[0] += event.finalAmount();
+            daily[1] += 1;
+            for (OrderPlacedEvent.Line line : event.lines()) {
+                long[] perfume = pending.perfume(line.perfumeId());
+                perfume[ORDERS] += line.quantity();
+                perfume[REVENUE] += line.amount();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        synchronized (lock) {
+            pending.perfume(event.perfumeId())[WISHLISTS] += event.delta();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCartItemAdded(CartItemAddedEvent event) {
+        synchronized (lock) {
+            pending.perfume(event.perfumeId())[CARTS] += 1;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScentBlendSaved(ScentBlendSavedEvent event) {
+        synchronized (lock) {
+            for (ScentBlendSavedEvent.Item item : event.items()) {
+                if (item.ingredientId() == null) continue;
+                double[] usage = pending.ingredients.computeIfAbsent(item.ingredientId(), id -> new double[2]);
+                usage[0] += 1;
+                usage[1] += item.ratio();
+            }
+        }
+    }
+
+    // ══════════════════════════════════════════════════════════════
+    // 반영
+    // ══════════════════════════════════════════════════════════════
+
+    @Scheduled(fixedDelayString = "${admin.stats.aggregate-flush-interval-ms:5000}")
+    public void flush() {
+        Pending batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) return;
+            batch = pending;
+            pending = new Pending();
+        }
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> write(batch)));
+            log.debug("통계 집계 반영 - 일자 {}건, 향수 {}건, 향료 {}건",
+                    batch.daily.size(), batch.perfumes.size(), batch.ingredients.size());
+            synchronized (lock) {
+                consecutiveFailures = 0;
+            }
+        } catch (Exception e) {
+            synchronized (lock) {
+                if (++consecutiveFailures < maxRetries) {
+                    pending.mergeFrom(batch);
+                    log.warn("통계 집계 반영 실패 ({}/{}), 다음 주기에 재시도: {}",
+                            consecutiveFailures, maxRetries, e.getMessage());
+                    return;
+                }
+                consecutiveFailures = 0;
+            }
+            droppedCounter.increment(batch.daily.size() + batch.perfumes.size() + batch.ingredients.size());
+            log.error("통계 집계 반영 {}회 연속 실패, 합산분 폐기 - 일자 {}건, 향수 {}건, 향료 {}건: {}",
+                    maxRetries, batch.daily.size(), batch.perfumes.size(), batch.ingredients.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 키 순서(TreeMap)대로 UPSERT → 동시 반영 간 행 잠금 순서 고정
+    private void write(Pending batch) {
+        if (!batch.daily.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DAILY, batch.daily.entrySet().stream()
+                    .map(e -> new MapSqlParameterSource()
+                            .addValue("statDate", e.getKey())
+                            .addValue("revenue", e.getValue()[0])
+                            .addValue("orders", e.getValue()[1]))
+                    .toArray(SqlParameterSource[]::new));
+        }
+        if (!batch.perfumes.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_PERFUME, batch.perfumes.entrySet().stream()
+                    .map(e -> new MapSqlParameterSource()
+                            .addValue("perfumeId", e.getKey())
+                            .addValue("carts", e.getValue()[CARTS])
+                            .addValue("wishlists", e.getValue()[WISHLISTS])
+                            .addValue("orders", e.getValue()[ORDERS])
+                            .addValue("revenue", e.getValue()[REVENUE]))
+                    .toArray(SqlParameterSource[]::new));
+        }
+        if (!batch.ingredients.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_INGREDIENT, batch.ingredients.entrySet().stream()
+                    .map(e -> new MapSqlParameterSource()
+                            .addValue("ingredientId", e.getKey())
+                            .addValue("uses", (long) e.getValue()[0])
+                            .addValue("ratioSum", e.getValue()[1]))
+                    .toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    /** 아직 반영되지 않은 합산분 (lock 안에서만 접근) */
+    private static class Pending {
+        final Map<LocalDate, long[]> daily = new TreeMap<>();          // 매출, 주문 수
+        final Map<Long, long[]> perfumes = new TreeMap<>();            // CARTS, WISHLISTS, ORDERS, REVENUE
+        final Map<Long, double[]> ingredients = new TreeMap<>();       // 사용 횟수, 비율 합
+
+        long[] perfume(Long perfumeId) {
+            return perfumes.computeIfAbsent(perfumeId, id -> new long[4]);
+        }
+
+        boolean isEmpty() {
+            return daily.isEmpty() && perfumes.isEmpty() && ingredients.isEmpty();
+        }
+
+        void mergeFrom(Pending other) {
+            other.daily.forEach((k, v) -> add(daily.computeIfAbsent(k, x -> new long[2]), v));
+            other.perfumes.forEach((k, v) -> add(perfume(k), v));
+            other.ingredients.forEach((k, v) -> {
+                double[] target = ingredients.computeIfAbsent(k, x -> new double[2]);
+                target[0] += v[0];
+                target[1] += v[1];
+            });
+        }
+
+        private static void add(long[] target, long[] delta) {
+            for (int i = 0; i < target.length; i++) target[i] += delta[i];
+        }
+    }
+}
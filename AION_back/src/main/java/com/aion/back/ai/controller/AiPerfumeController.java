@@ -2,6 +2,8 @@ package com.aion.back.ai.controller;
 
 import com.aion.back.ai.dto.*;
 import com.aion.back.ai.service.AiPerfumeService;
+import com.aion.back.ai.service.BlendStreamExecutor;
+import com.aion.back.ai.service.LlmTransport;
 import com.aion.back.common.response.ApiResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,10 +14,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 
@@ -33,7 +38,7 @@ public class AiPerfumeController {
     @Value("${gemini.api.key}")
     private String geminiApiKey;
 
-    private final RestTemplate restTemplate;
+    private final LlmTransport llmTransport;
     private final ObjectMapper objectMapper;
 
     // ══════════════════════════════════════════════════════════════════════════
@@ -52,9 +57,16 @@ public class AiPerfumeController {
     // ══════════════════════════════════════════════════════════════════════════
 
     @PostMapping(value = "/claude-blend", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter claudeBlendStream(@RequestBody ClaudeBlendRequest request) {
+    public ResponseEntity<SseEmitter> claudeBlendStream(@RequestBody ClaudeBlendRequest request) {
         log.info("AI 조향 파이프라인 시작 - 프롬프트: {}", request.getUserPrompt());
-        return aiPerfumeService.streamClaudeBlend(request);
+        try {
+            return ResponseEntity.ok(aiPerfumeService.streamClaudeBlend(request));
+        } catch (BlendStreamExecutor.BlendStreamSaturatedException e) {
+            // SSE 응답이라 본문 없이 상태 코드 + Retry-After만 반환
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
+        }
     }
 
     // ══════════════════════════════════════════════════════════════════════════
@@ -155,7 +167,7 @@ public class AiPerfumeController {
 // 추가 (기존 private String callGeminiForScentCard 바로 위)
     private static final String GEMINI_CARD_URL =
         "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash-lite:generateContent";
-    private String callGeminiForScentCard(String prompt) {
+    private String callGeminiForScentCard(String prompt) throws Exception {
         String url = GEMINI_CARD_URL + "?key=" + geminiApiKey;
 
         ObjectNode requestBody = objectMapper.createObjectNode();
@@ -168,21 +180,23 @@ public class AiPerfumeController {
         genConfig.put("temperature",     0.7);
         genConfig.put("maxOutputTokens", 1024);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<String> entity;
+        String jsonBody;
         try {
-            entity = new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
+            jsonBody = objectMapper.writeValueAsString(requestBody);
         } catch (Exception e) {
             throw new RuntimeException("Gemini 요청 직렬화 실패", e);
         }
 
-        ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
-        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-            throw new RuntimeException("Gemini API 응답 오류: " + response.getStatusCode());
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8));
+
+        HttpResponse<String> response = llmTransport.send(LlmTransport.Provider.GEMINI, request);
+        if (response.statusCode() / 100 != 2 || response.body() == null) {
+            throw new RuntimeException("Gemini API 응답 오류: " + response.statusCode());
         }
-        return response.getBody();
+        return response.body();
     }
 
     // ── Gemini 응답 파싱 (향 카드 전용) ─────────────────────────────────────
@@ -2,13 +2,12 @@ package com.aion.back.ai.service;
 
 import com.aion.back.ai.dto.*;
 import com.aion.back.customization.entity.Ingredient;
-import com.aion.back.customization.entity.ScentCategory;
-import com.aion.back.customization.repository.IngredientRepository;
-import com.aion.back.customization.repository.ScentCategoryRepository;
 import com.aion.back.perfume.entity.Perfume;
 import com.aion.back.perfume.repository.PerfumeRepository;
+import com.aion.back.perfume.service.PerfumeThumbnailResolver;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +21,7 @@ import java.net.URI;
 import java.net.http.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,9 +46,20 @@ public class AiPerfumeService {
     @Value("${claude.max-tokens:1600}")
     private int claudeMaxTokens;
 
+    // 조향 파이프라인 단계별 제한 시간
+    @Value("${ai.blend.stage-timeout.keywords-ms:30000}")
+    private long keywordsTimeoutMs;
+
+    @Value("${ai.blend.stage-timeout.ingredient-snapshot-ms:10000}")
+    private long snapshotTimeoutMs;
+
     private final PerfumeRepository perfumeRepository;
-    private final IngredientRepository ingredientRepository;
-    private final ScentCategoryRepository scentCategoryRepository;
+    private final PerfumeThumbnailResolver thumbnailResolver;
+    private final LlmTransport llmTransport;
+    private final BlendStreamExecutor blendStreamExecutor;
+    private final KeywordExtractionCache keywordCache;
+    private final IngredientMatcher ingredientMatcher;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper;
 
     private static final String GEMINI_URL =
@@ -113,6 +124,11 @@ public class AiPerfumeService {
     // ══════════════════════════════════════════════════════════════
 
     private List<String> extractIngredientKeywords(String userPrompt) throws Exception {
+        // 같은(또는 거의 같은) 감성 프롬프트는 캐시된 키워드 재사용 → Gemini 호출 생략
+        return keywordCache.get(userPrompt, () -> requestIngredientKeywords(userPrompt));
+    }
+
+    private List<String> requestIngredientKeywords(String userPrompt) throws Exception {
         String prompt = String.format("""
             사용자가 원하는 향수 감성: "%s"
             
@@ -145,34 +161,14 @@ public class AiPerfumeService {
     }
 
     // ══════════════════════════════════════════════════════════════
-    // 탭 3: STEP 2 - Supabase Ingredient 테이블에서 키워드 매칭 재료 검색
-    // 개수 제한 없이 매칭되는 재료 전부 반환
+    // 탭 3: STEP 2 - 재료 스냅샷(Ingredient 테이블)에서 키워드 매칭 재료 검색
+    // 매칭 순위 상위 50개 반환
     // ══════════════════════════════════════════════════════════════
 
-    private List<Ingredient> searchIngredientsByKeywords(List<String> keywords) {
-        // 카테고리 정보를 함께 쓰기 위해 카테고리 맵 로드
-        Map<Long, String> categoryNames = scentCategoryRepository.findActiveWithIngredients()
-                .stream()
-                .collect(Collectors.toMap(
-                        ScentCategory::getCategoryId,
-                        ScentCategory::getCategoryName,
-                        (a, b) -> a
-                ));
-
-        // 키워드별 검색 후 합산 (중복 제거)
-        Set<Long> seen = new LinkedHashSet<>();
-        List<Ingredient> result = new ArrayList<>();
-
-        for (String keyword : keywords) {
-            String trimmed = keyword.trim();
-            if (trimmed.isEmpty()) continue;
-            List<Ingredient> found = ingredientRepository.findActiveByNameContaining(trimmed);
-            for (Ingredient ing : found) {
-                if (seen.add(ing.getIngredientId())) {
-                    result.add(ing);
-                }
-            }
-        }
+    private List<Ingredient> searchIngredientsByKeywords(
+            IngredientMatcher.Snapshot catalog, List<String> keywords) {
+        // 키워드 전체를 한 번에 매칭 (쿼리 없음), 순위순 정렬 결과
+        List<Ingredient> result = ingredientMatcher.match(catalog, keywords);
 
         log.info("키워드 {} 개 → 매칭 재료 {} 개", keywords.size(), result.size());
         return result.stream().limit(50).collect(Collectors.toList());//수정함.제한result;
@@ -186,7 +182,9 @@ public class AiPerfumeService {
     public SseEmitter streamClaudeBlend(ClaudeBlendRequest request) {
         SseEmitter emitter = new SseEmitter(180_000L); // 3분 타임아웃
 
-        new Thread(() -> {
+        BlendStageTracker stages = new BlendStageTracker(meterRegistry, emitter, objectMapper);
+
+        blendStreamExecutor.submit(() -> {
             try {
                 String userPrompt = request.getUserPrompt();
                 if (userPrompt == null || userPrompt.isBlank()) {
@@ -200,26 +198,31 @@ public class AiPerfumeService {
                 }
 
                 // ── STEP 1: Gemini로 키워드 추출 ──────────────────────
+                // 재료 스냅샷 적재는 키워드와 무관하므로 동시에 시작
                 emitter.send(SseEmitter.event()
                         .data(objectMapper.writeValueAsString(Map.of("status", "extracting_keywords"))));
 
-                List<String> keywords = extractIngredientKeywords(userPrompt);
+                final String prompt = userPrompt;
+                CompletableFuture<List<String>> keywordsStage = stages.async("keywords",
+                        () -> extractIngredientKeywords(prompt),
+                        keywordsTimeoutMs, blendStreamExecutor.stageExecutor());
+                CompletableFuture<IngredientMatcher.Snapshot> catalogStage = stages.async("ingredient_snapshot",
+                        ingredientMatcher::snapshot,
+                        snapshotTimeoutMs, blendStreamExecutor.stageExecutor());
+
+                List<String> keywords = stages.join("keywords", keywordsStage);
                 log.info("Gemini 추출 키워드: {}", keywords);
 
                 // ── STEP 2: Supabase에서 재료 검색 ────────────────────
                 emitter.send(SseEmitter.event()
                         .data(objectMapper.writeValueAsString(Map.of("status", "searching_ingredients"))));
 
-                List<Ingredient> matched = searchIngredientsByKeywords(keywords);
+                IngredientMatcher.Snapshot catalog = stages.join("ingredient_snapshot", catalogStage);
+                List<Ingredient> matched = stages.run("ingredient_match",
+                        () -> searchIngredientsByKeywords(catalog, keywords));
 
-                // 카테고리 이름 맵 (프롬프트에 포함)
-                Map<Long, String> catNames = scentCategoryRepository.findActiveWithIngredients()
-                        .stream()
-                        .collect(Collectors.toMap(
-                                ScentCategory::getCategoryId,
-                                ScentCategory::getCategoryName,
-                                (a, b) -> a
-                        ));
+                // 카테고리 이름 맵 (프롬프트에 포함) - 재료 검색과 같은 스냅샷 사용
+                Map<Long, String> catNames = catalog.categoryNames();
 
                 // 재료 목록을 Claude 프롬프트용 문자열로 변환
                 // 형식: "ingredientId|이름|카테고리" → Claude가 ingredientId 기준으로 선택
@@ -255,8 +258,8 @@ public class AiPerfumeService {
                 List<Map<String, Object>> messages = buildClaudeMessages(request.getMessages(), userPrompt);
 
                 // 1차 시도: 기본 모델 (Sonnet)
-                boolean success = callClaudeStream(
-                        claudeModel, systemPrompt, messages, emitter);
+                boolean success = stages.run("claude_stream", () -> callClaudeStream(
+                        claudeModel, systemPrompt, messages, emitter, stages));
 
                 // 1차 실패 시: fallback 모델 (Haiku)로 자동 재시도
                 // 캡스톤 시연 중 Sonnet 장애/오류 시 Haiku로 끊김 없이 전환
@@ -268,8 +271,8 @@ public class AiPerfumeService {
                                     "status", "fallback",
                                     "message", "고속 모드로 전환 중..."
                             ))));
-                    success = callClaudeStream(
-                            claudeFallbackModel, systemPrompt, messages, emitter);
+                    success = stages.run("claude_fallback_stream", () -> callClaudeStream(
+                            claudeFallbackModel, systemPrompt, messages, emitter, stages));
                 }
 
                 if (!success) {
@@ -283,8 +286,8 @@ public class AiPerfumeService {
             } catch (Exception e) {
                 log.error("Claude 조향 파이프라인 오류", e);
                 try {
-                    // 사용자 친화 메시지 (Gemini 503은 흔하니 별도 안내)
-                    String userMsg = e.getMessage() != null && e.getMessage().contains("503")
+                    // 사용자 친화 메시지 (동시 요청 한도 초과 / Gemini 과부하는 흔하니 별도 안내)
+                    String userMsg = e instanceof LlmTransport.LlmSaturatedException
                             ? "AI 서버가 일시적으로 혼잡합니다. 잠시 후 다시 시도해주세요."
                             : "조향 중 오류가 발생했습니다. 다시 시도해주세요.";
 
@@ -300,7 +303,7 @@ public class AiPerfumeService {
                 //   (HttpMessageNotWritableException: text/event-stream에 HashMap 못 씀)
                 try { emitter.complete(); } catch (Exception ignored) {}
             }
-        }).start();
+        });
 
         return emitter;
     }
@@ -314,7 +317,8 @@ public class AiPerfumeService {
             String model,
             String systemPrompt,
             List<Map<String, Object>> messages,
-            SseEmitter emitter) {
+            SseEmitter emitter,
+            BlendStageTracker stages) {
 
         // properties에서 공백/줄바꿈이 섞여 들어오는 경우 방지
         // (예: "claude-haiku-4-5 " 같은 trailing space)
@@ -332,66 +336,16 @@ public class AiPerfumeService {
 
             String jsonBody = objectMapper.writeValueAsString(body);
 
-            HttpClient client = HttpClient.newHttpClient();
-            HttpRequest httpRequest = HttpRequest.newBuilder()
+            HttpRequest.Builder httpRequest = HttpRequest.newBuilder()
                     .uri(URI.create(CLAUDE_URL))
                     .header("Content-Type", "application/json")
                     .header("x-api-key", claudeApiKey)
                     .header("anthropic-version", "2023-06-01")
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8))
-                    .build();
-
-            HttpResponse<InputStream> response = client.send(
-                    httpRequest, HttpResponse.BodyHandlers.ofInputStream());
-
-            if (response.statusCode() != 200) {
-                // 에러 본문 로깅 (디버깅용)
-                try (InputStream err = response.body()) {
-                    String errBody = new String(err.readAllBytes(), StandardCharsets.UTF_8);
-                    log.error("Claude API 오류 {} (model: {}): {}",
-                            response.statusCode(), model, errBody);
-                } catch (Exception ignored) {}
-                return false;
-            }
+                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8));
 
-            // Claude 응답 스트리밍
-            StringBuilder fullResponse = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
-
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (!line.startsWith("data: ")) continue;
-                    String data = line.substring(6).trim();
-                    if (data.equals("[DONE]")) break;
-
-                    try {
-                        JsonNode event = objectMapper.readTree(data);
-                        String type = event.path("type").asText();
-
-                        if ("content_block_delta".equals(type)) {
-                            String delta = event.path("delta").path("text").asText("");
-                            if (!delta.isEmpty()) {
-                                fullResponse.append(delta);
-                                emitter.send(SseEmitter.event()
-                                        .data(objectMapper.writeValueAsString(Map.of("delta", delta))));
-                            }
-                        } else if ("message_stop".equals(type)) {
-                            // 스트리밍 완료 후 <recipe> 태그 파싱해서 전송
-                            String recipeJson = extractAndParseRecipe(fullResponse.toString());
-                            emitter.send(SseEmitter.event()
-                                    .data(objectMapper.writeValueAsString(Map.of(
-                                            "done", true,
-                                            "recipeJson", recipeJson,
-                                            "modelUsed", model
-                                    ))));
-                            break;
-                        }
-                    } catch (Exception ignored) {}
-                }
-            }
-
-            return true;
+            final String modelUsed = model;
+            return llmTransport.stream(LlmTransport.Provider.CLAUDE, httpRequest,
+                    response -> relayClaudeStream(response, modelUsed, emitter, stages));
 
         } catch (Exception e) {
             log.error("Claude 호출 중 예외 발생 (model: {})", model, e);
@@ -399,6 +353,59 @@ public class AiPerfumeService {
         }
     }
 
+    private boolean relayClaudeStream(HttpResponse<InputStream> response, String model,
+                                      SseEmitter emitter, BlendStageTracker stages) throws IOException {
+        if (response.statusCode() != 200) {
+            // 에러 본문 로깅 (디버깅용)
+            try (InputStream err = response.body()) {
+                String errBody = new String(err.readAllBytes(), StandardCharsets.UTF_8);
+                log.error("Claude API 오류 {} (model: {}): {}",
+                        response.statusCode(), model, errBody);
+            } catch (Exception ignored) {}
+            return false;
+        }
+
+        // Claude 응답 스트리밍
+        StringBuilder fullResponse = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("data: ")) continue;
+                String data = line.substring(6).trim();
+                if (data.equals("[DONE]")) break;
+
+                try {
+                    JsonNode event = objectMapper.readTree(data);
+                    String type = event.path("type").asText();
+
+                    if ("content_block_delta".equals(type)) {
+                        String delta = event.path("delta").path("text").asText("");
+                        if (!delta.isEmpty()) {
+                            stages.firstToken();
+                            fullResponse.append(delta);
+                            emitter.send(SseEmitter.event()
+                                    .data(objectMapper.writeValueAsString(Map.of("delta", delta))));
+                        }
+                    } else if ("message_stop".equals(type)) {
+                        // 스트리밍 완료 후 <recipe> 태그 파싱해서 전송
+                        String recipeJson = extractAndParseRecipe(fullResponse.toString());
+                        emitter.send(SseEmitter.event()
+                                .data(objectMapper.writeValueAsString(Map.of(
+                                        "done", true,
+                                        "recipeJson", recipeJson,
+                                        "modelUsed", model
+                                ))));
+                        break;
+                    }
+                } catch (Exception ignored) {}
+            }
+        }
+
+        return true;
+    }
+
     // ══════════════════════════════════════════════════════════════
     // 탭 3: Gemini 레시피 변경 평가
     // 슬라이더 조절 후 이전/현재 레시피 비교 → 향 변화 조언
@@ -442,14 +449,12 @@ public class AiPerfumeService {
             // Gemini는 JSON 모드 없이 자연어 응답
             String url = GEMINI_URL + "?key=" + geminiApiKey;
             String jsonBody = objectMapper.writeValueAsString(body);
-            HttpClient client = HttpClient.newHttpClient();
-            HttpRequest request2 = HttpRequest.newBuilder()
+            HttpRequest.Builder request2 = HttpRequest.newBuilder()
                     .uri(URI.create(url))
                     .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .build();
+                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8));
 
-            HttpResponse<String> response = client.send(request2, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = llmTransport.send(LlmTransport.Provider.GEMINI, request2);
             JsonNode root = objectMapper.readTree(response.body());
             return root.path("candidates").get(0)
                        .path("content").path("parts").get(0)
@@ -521,8 +526,8 @@ public class AiPerfumeService {
                 .collect(Collectors.toList());
     }
 
-    // Claude 응답에서 <recipe>...</recipe> 태그 파싱
-    private String extractAndParseRecipe(String fullText) {
+    // Claude 응답에서 <recipe>...</recipe> 태그 파싱 (패키지 접근: benchmarks 모듈에서 호출)
+    String extractAndParseRecipe(String fullText) {
         try {
             int start = fullText.indexOf("<recipe>");
             int end = fullText.indexOf("</recipe>");
@@ -561,12 +566,10 @@ public class AiPerfumeService {
         String url = GEMINI_URL + "?key=" + geminiApiKey;
         String jsonBody = objectMapper.writeValueAsString(body);
 
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder request = HttpRequest.newBuilder()
                 .uri(URI.create(url))
                 .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                .build();
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8));
 
         // 최대 3번 시도 (1초, 2초 대기 - exponential backoff)
         int maxRetries = 3;
@@ -579,7 +582,7 @@ public class AiPerfumeService {
                 Thread.sleep(backoffMs[attempt]);
             }
 
-            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            response = llmTransport.send(LlmTransport.Provider.GEMINI, request);
             int code = response.statusCode();
 
             if (code == 200) {
@@ -597,6 +600,9 @@ public class AiPerfumeService {
 
             if (!retryable || attempt == maxRetries - 1) {
                 log.error("Gemini API 오류 {}: {}", code, response.body());
+                if (code == 503 || code == 429) {
+                    throw new LlmTransport.LlmSaturatedException("Gemini API 과부하: " + code);
+                }
                 throw new RuntimeException("Gemini API 오류: " + code);
             }
         }
@@ -654,14 +660,15 @@ public class AiPerfumeService {
         return result;
     }
 
-    private List<ImageToScentResponse.RecommendedPerfume> matchPerfumesFromDb(
+    // 패키지 접근: benchmarks 모듈에서 같은 패키지로 직접 호출
+    List<ImageToScentResponse.RecommendedPerfume> matchPerfumesFromDb(
             List<String> keywords, String mood) {
 
         List<Perfume> all = perfumeRepository
                 .findByIsActiveTrue(PageRequest.of(0, 200))
                 .getContent();
 
-        return all.stream()
+        List<Map.Entry<Perfume, Long>> ranked = all.stream()
                 .map(p -> {
                     String haystack = String.join(" ",
                             Optional.ofNullable(p.getName()).orElse(""),
@@ -676,6 +683,13 @@ public class AiPerfumeService {
                 .filter(e -> e.getValue() > 0)
                 .sorted(Map.Entry.<Perfume, Long>comparingByValue().reversed())
                 .limit(4)
+                .collect(Collectors.toList());
+
+        Map<Long, String> thumbnails = thumbnailResolver.resolve(ranked.stream()
+                .map(e -> e.getKey().getPerfumeId())
+                .collect(Collectors.toList()));
+
+        return ranked.stream()
                 .map(e -> {
                     Perfume p = e.getKey();
                     return ImageToScentResponse.RecommendedPerfume.builder()
@@ -683,7 +697,7 @@ public class AiPerfumeService {
                             .name(p.getName())
                             .nameEn(p.getNameEn())
                             .brand(p.getBrand() != null ? p.getBrand().getBrandName() : "")
-                            .imageUrl(p.getImageUrl())
+                            .imageUrl(thumbnails.getOrDefault(p.getPerfumeId(), p.getImageUrl()))
                             .price(p.getSalePrice() != null ? p.getSalePrice() : p.getPrice())
                             .matchReason(mood + " 무드와 어울리는 향수")
                             .build();
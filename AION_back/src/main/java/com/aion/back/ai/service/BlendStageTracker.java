@@ -0,0 +1,108 @@
+package com.aion.back.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 조향 파이프라인 세션 1개의 단계별 소요 시간 기록
+ *
+ * - 단계마다 Micrometer 타이머 ai.blend.stage{stage=...} 에 기록
+ * - SSE로 {"status":"stage_timing","stage":...,"elapsedMs":...} 전송
+ * SSE 전송은 세션 스레드에서만 하도록 비동기 단계는 join 이후 emit() 호출
+ */
+public class BlendStageTracker {
+
+    private final MeterRegistry meterRegistry;
+    private final SseEmitter emitter;
+    private final ObjectMapper objectMapper;
+    private final long sessionStartNanos = System.nanoTime();
+    private final Map<String, Long> elapsedMs = new ConcurrentHashMap<>();
+    private volatile boolean firstTokenSeen;
+
+    public BlendStageTracker(MeterRegistry meterRegistry, SseEmitter emitter, ObjectMapper objectMapper) {
+        this.meterRegistry = meterRegistry;
+        this.emitter = emitter;
+        this.objectMapper = objectMapper;
+    }
+
+    /** 다른 단계와 겹쳐 실행할 수 있는 단계. 시간 초과 시 TimeoutException으로 완료 */
+    public <T> CompletableFuture<T> async(String stage, Callable<T> work, long timeoutMs, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return timed(stage, work);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor).orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** 비동기 단계 결과 대기 + 소요 시간 전송 */
+    public <T> T join(String stage, CompletableFuture<T> future) throws Exception {
+        try {
+            T value = future.join();
+            emit(stage);
+            return value;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                throw new RuntimeException(stage + " 단계 시간 초과", cause);
+            }
+            if (cause instanceof Exception ex) throw ex;
+            throw e;
+        }
+    }
+
+    /** 세션 스레드에서 바로 실행하는 단계 */
+    public <T> T run(String stage, Callable<T> work) throws Exception {
+        T value = timed(stage, work);
+        emit(stage);
+        return value;
+    }
+
+    /** Claude 첫 토큰 도착 시점 (세션 시작 기준) */
+    public void firstToken() {
+        if (firstTokenSeen) return;
+        firstTokenSeen = true;
+        long nanos = System.nanoTime() - sessionStartNanos;
+        record("first_token", nanos);
+        emit("first_token");
+    }
+
+    private <T> T timed(String stage, Callable<T> work) throws Exception {
+        long started = System.nanoTime();
+        try {
+            return work.call();
+        } finally {
+            record(stage, System.nanoTime() - started);
+        }
+    }
+
+    private void record(String stage, long nanos) {
+        elapsedMs.put(stage, TimeUnit.NANOSECONDS.toMillis(nanos));
+        Timer.builder("ai.blend.stage")
+                .description("조향 파이프라인 단계별 소요 시간")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void emit(String stage) {
+        Long ms = elapsedMs.get(stage);
+        if (ms == null) return;
+        try {
+            emitter.send(SseEmitter.event()
+                    .data(objectMapper.writeValueAsString(Map.of(
+                            "status", "stage_timing",
+                            "stage", stage,
+                            "elapsedMs", ms
+                    ))));
+        } catch (Exception ignored) { /* 타이밍 이벤트 실패는 무시 */ }
+    }
+}
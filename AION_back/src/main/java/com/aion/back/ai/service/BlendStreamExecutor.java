@@ -0,0 +1,102 @@
+package com.aion.back.ai.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * /api/ai/claude-blend SSE 세션 전용 실행기
+ *
+ * 세션마다 new Thread()를 만들던 방식 대신 동시 세션 수와 대기열 길이를 고정한다.
+ * 둘 다 가득 차면 BlendStreamSaturatedException → 컨트롤러가 503 + Retry-After로 응답.
+ * 활성/대기 세션 수는 Micrometer 게이지로 노출.
+ */
+@Slf4j
+@Component
+public class BlendStreamExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor stageExecutor;
+    private final int retryAfterSeconds;
+
+    public BlendStreamExecutor(
+            @Value("${ai.blend.max-concurrent-sessions:32}") int maxConcurrentSessions,
+            @Value("${ai.blend.queue-capacity:64}") int queueCapacity,
+            @Value("${ai.blend.retry-after-seconds:10}") int retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrentSessions, maxConcurrentSessions,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "blend-stream-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        // 세션 안에서 겹쳐 돌리는 독립 단계용 (키워드 추출 ∥ 재료 스냅샷 등)
+        // 가득 차면 세션 스레드가 직접 실행 → 거절 없음
+        AtomicInteger stageSeq = new AtomicInteger();
+        this.stageExecutor = new ThreadPoolExecutor(
+                maxConcurrentSessions, maxConcurrentSessions,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "blend-stage-" + stageSeq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.stageExecutor.allowCoreThreadTimeOut(true);
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("ai.blend.sessions.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("진행 중인 조향 SSE 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.blend.sessions.queued", executor, e -> e.getQueue().size())
+                .description("대기 중인 조향 SSE 세션 수")
+                .register(meterRegistry);
+    }
+
+    public void submit(Runnable session) {
+        try {
+            executor.execute(session);
+        } catch (RejectedExecutionException e) {
+            log.warn("조향 세션 거절 - 활성 {} / 대기 {}", executor.getActiveCount(), executor.getQueue().size());
+            throw new BlendStreamSaturatedException(retryAfterSeconds);
+        }
+    }
+
+    public Executor stageExecutor() {
+        return stageExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        stageExecutor.shutdown();
+    }
+
+    /** 동시 세션 + 대기열이 모두 가득 찬 경우 */
+    public static class BlendStreamSaturatedException extends RuntimeException {
+
+        @Getter
+        private final int retryAfterSeconds;
+
+        public BlendStreamSaturatedException(int retryAfterSeconds) {
+            super("AI 조향 요청이 많아 잠시 후 다시 시도해주세요.");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.aion.back.ai.service;
+
+import com.aion.back.customization.entity.Ingredient;
+import com.aion.back.customization.entity.ScentCategory;
+import com.aion.back.customization.repository.IngredientRepository;
+import com.aion.back.customization.repository.ScentCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * AI 조향용 재료 매칭기
+ *
+ * 활성 재료 목록과 카테고리 이름을 하나의 스냅샷으로 메모리에 들고 있다가,
+ * Gemini 키워드 전체로 Aho-Corasick 오토마톤을 만들어 재료 이름을 한 번씩만 훑는다.
+ * (기존: 키워드마다 LOWER(name) LIKE '%kw%' 쿼리 1회)
+ *
+ * 재료 테이블은 앱에서 수정하지 않으므로 scentCategories 캐시와 같이 주기(TTL)로 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientMatcher {
+
+    private final IngredientRepository ingredientRepository;
+    private final ScentCategoryRepository scentCategoryRepository;
+
+    @Value("${ai.ingredient-index.refresh-minutes:60}")
+    private long refreshMinutes;
+
+    private volatile Snapshot snapshot;
+
+    /** 재료 + 카테고리 이름 스냅샷 (불변) */
+    public record Snapshot(List<Ingredient> ingredients,
+                           List<String> lowerNames,
+                           Map<Long, String> categoryNames,
+                           long loadedAt) {
+    }
+
+    /** 현재 스냅샷. 없거나 오래됐으면 다시 적재 */
+    public Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s == null || System.currentTimeMillis() - s.loadedAt() > refreshMinutes * 60_000L) {
+            s = reload();
+        }
+        return s;
+    }
+
+    public synchronized Snapshot reload() {
+        Snapshot current = snapshot;
+        // 동시에 들어온 요청이 이미 갱신했으면 재사용
+        if (current != null && System.currentTimeMillis() - current.loadedAt() <= refreshMinutes * 60_000L) {
+            return current;
+        }
+
+        List<Ingredient> ingredients = ingredientRepository.findAllActive();
+        List<String> lowerNames = ingredients.stream()
+                .map(i -> i.getName() == null ? "" : i.getName().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        Map<Long, String> categoryNames = scentCategoryRepository.findByIsActiveTrue().stream()
+                .collect(Collectors.toMap(
+                        ScentCategory::getCategoryId,
+                        ScentCategory::getCategoryName,
+                        (a, b) -> a
+                ));
+
+        Snapshot loaded = new Snapshot(List.copyOf(ingredients), List.copyOf(lowerNames),
+                Map.copyOf(categoryNames), System.currentTimeMillis());
+        snapshot = loaded;
+        log.info("재료 매칭 스냅샷 적재 - 재료 {} 개, 카테고리 {} 개", ingredients.size(), categoryNames.size());
+        return loaded;
+    }
+
+    /**
+     * 키워드 중 하나라도 이름에 포함된 재료를 순위대로 반환
+     * 순위: 이름 = 키워드 완전 일치 → 일치한 키워드 수 → 앞선 키워드 → 기존 정렬(카테고리, 표시 순서)
+     */
+    public List<Ingredient> match(Snapshot s, List<String> keywords) {
+        List<String> patterns = keywords.stream()
+                .filter(Objects::nonNull)
+                .map(k -> k.trim().toLowerCase(Locale.ROOT))
+                .filter(k -> !k.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        if (patterns.isEmpty()) return List.of();
+
+        AhoCorasick automaton = new AhoCorasick(patterns);
+        List<Hit> hits = new ArrayList<>();
+        for (int i = 0; i < s.lowerNames().size(); i++) {
+            String name = s.lowerNames().get(i);
+            BitSet found = automaton.scan(name);
+            if (found.isEmpty()) continue;
+            boolean exact = patterns.contains(name);
+            hits.add(new Hit(i, exact, found.cardinality(), found.nextSetBit(0)));
+        }
+
+        hits.sort(Comparator.comparing(Hit::exact).reversed()
+                .thenComparing(Comparator.comparingInt(Hit::matchedCount).reversed())
+                .thenComparingInt(Hit::firstKeyword)
+                .thenComparingInt(Hit::ordinal));
+
+        return hits.stream()
+                .map(h -> s.ingredients().get(h.ordinal()))
+                .collect(Collectors.toList());
+    }
+
+    private record Hit(int ordinal, boolean exact, int matchedCount, int firstKeyword) {
+    }
+
+    /** 키워드(패턴) 집합용 Aho-Corasick 오토마톤. 한글 등 큰 문자 집합이라 노드별 HashMap 전이 사용 */
+    private static final class AhoCorasick {
+
+        private final List<Map<Character, Integer>> next = new ArrayList<>();
+        private final List<Integer> fail = new ArrayList<>();
+        private final List<BitSet> output = new ArrayList<>();
+
+        AhoCorasick(List<String> patterns) {
+            newNode();
+            for (int p = 0; p < patterns.size(); p++) {
+                int node = 0;
+                for (char c : patterns.get(p).toCharArray()) {
+                    Integer child = next.get(node).get(c);
+                    if (child == null) {
+                        child = newNode();
+                        next.get(node).put(c, child);
+                    }
+                    node = child;
+                }
+                output.get(node).set(p);
+            }
+
+            // BFS로 실패 링크 구성, 출력 집합은 실패 링크를 따라 합침
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : next.get(0).values()) {
+                fail.set(child, 0);
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (Map.Entry<Character, Integer> e : next.get(node).entrySet()) {
+                    int child = e.getValue();
+                    int f = fail.get(node);
+                    while (f != 0 && !next.get(f).containsKey(e.getKey())) {
+                        f = fail.get(f);
+                    }
+                    Integer target = next.get(f).get(e.getKey());
+                    fail.set(child, target != null && target != child ? target : 0);
+                    output.get(child).or(output.get(fail.get(child)));
+                    queue.add(child);
+                }
+            }
+        }
+
+        private int newNode() {
+            next.add(new HashMap<>());
+            fail.add(0);
+            output.add(new BitSet());
+            return next.size() - 1;
+        }
+
+        /** 텍스트에 포함된 패턴 인덱스 집합 */
+        BitSet scan(String text) {
+            BitSet found = new BitSet();
+            int node = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                while (node != 0 && !next.get(node).containsKey(c)) {
+                    node = fail.get(node);
+                }
+                node = next.get(node).getOrDefault(c, 0);
+                found.or(output.get(node));
+            }
+            return found;
+        }
+    }
+}
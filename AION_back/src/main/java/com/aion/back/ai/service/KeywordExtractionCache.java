@@ -0,0 +1,124 @@
+package com.aion.back.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 재료 키워드 추출 결과 캐시
+ *
+ * 키는 정규화한 프롬프트 (앞뒤 공백 제거 + 연속 공백 1칸 + NFC 한글 조합 + 소문자).
+ * 정확히 같은 키가 없으면, 옵션으로 문자 2-gram Jaccard 유사도가 임계값 이상인
+ * 캐시 항목을 재사용한다 ("따뜻한 겨울 향수" ≈ "따뜻한 겨울향수").
+ */
+@Slf4j
+@Component
+public class KeywordExtractionCache {
+
+    private final Cache<String, List<String>> cache;
+    private final boolean similarityEnabled;
+    private final double similarityThreshold;
+    private final Counter nearDuplicateHits;
+
+    public KeywordExtractionCache(
+            @Value("${ai.keyword-cache.max-size:1000}") long maxSize,
+            @Value("${ai.keyword-cache.ttl-minutes:360}") long ttlMinutes,
+            @Value("${ai.keyword-cache.similarity.enabled:false}") boolean similarityEnabled,
+            @Value("${ai.keyword-cache.similarity.threshold:0.85}") double similarityThreshold,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        this.similarityEnabled = similarityEnabled;
+        this.similarityThreshold = similarityThreshold;
+        this.nearDuplicateHits = Counter.builder("ai.keyword.cache.near_duplicate_hits")
+                .description("유사 프롬프트로 재사용한 키워드 추출 건수")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "geminiKeywords");
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 loader(Gemini 호출) 결과를 저장 후 반환
+     * 빈 결과는 저장하지 않음
+     */
+    public List<String> get(String userPrompt, Callable<List<String>> loader) throws Exception {
+        String key = normalize(userPrompt);
+
+        List<String> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.debug("키워드 캐시 적중: [{}]", key);
+            return cached;
+        }
+
+        if (similarityEnabled) {
+            List<String> similar = findSimilar(key);
+            if (similar != null) {
+                nearDuplicateHits.increment();
+                return similar;
+            }
+        }
+
+        List<String> loaded = loader.call();
+        if (loaded != null && !loaded.isEmpty()) {
+            cache.put(key, List.copyOf(loaded));
+        }
+        return loaded;
+    }
+
+    static String normalize(String prompt) {
+        if (prompt == null) return "";
+        String nfc = Normalizer.normalize(prompt, Normalizer.Form.NFC);
+        return nfc.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private List<String> findSimilar(String key) {
+        Set<String> grams = bigrams(key);
+        if (grams.isEmpty()) return null;
+
+        String bestKey = null;
+        double best = 0.0;
+        for (String candidate : cache.asMap().keySet()) {
+            double score = jaccard(grams, bigrams(candidate));
+            if (score > best) {
+                best = score;
+                bestKey = candidate;
+            }
+        }
+        if (bestKey == null || best < similarityThreshold) return null;
+
+        log.debug("키워드 캐시 유사 적중: [{}] ≈ [{}] ({})", key, bestKey, best);
+        return cache.getIfPresent(bestKey);
+    }
+
+    // 공백은 무시하고 문자 2-gram 생성 → 띄어쓰기 차이에 강함
+    private static Set<String> bigrams(String text) {
+        String compact = text.replace(" ", "");
+        Set<String> grams = new HashSet<>();
+        if (compact.length() == 1) grams.add(compact);
+        for (int i = 0; i + 2 <= compact.length(); i++) {
+            grams.add(compact.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) return 0.0;
+        int intersection = 0;
+        for (String g : a) {
+            if (b.contains(g)) intersection++;
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+}
@@ -0,0 +1,128 @@
+package com.aion.back.ai.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gemini / Claude 공용 HTTP 전송 계층
+ *
+ * - HttpClient 하나를 공유해서 HTTP/2 연결과 TLS 세션을 재사용
+ * - 내부 비동기 처리는 HttpClient 전용 고정 크기 스레드 풀에서 수행 (대기열 무제한, 호출 스레드에서 직접 실행하지 않음)
+ * - 제공자(provider)별 동시 요청 수를 세마포어로 제한 → 조향 요청이 몰려도 소켓/FD 고갈 방지
+ */
+@Slf4j
+@Component
+public class LlmTransport {
+
+    public enum Provider { GEMINI, CLAUDE }
+
+    @FunctionalInterface
+    public interface StreamHandler<T> {
+        T handle(HttpResponse<InputStream> response) throws Exception;
+    }
+
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final Duration readTimeout;
+    private final long acquireTimeoutMs;
+    private final Map<Provider, Semaphore> permits = new EnumMap<>(Provider.class);
+
+    public LlmTransport(
+            @Value("${ai.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${ai.http.read-timeout-ms:60000}") long readTimeoutMs,
+            @Value("${ai.http.acquire-timeout-ms:10000}") long acquireTimeoutMs,
+            @Value("${ai.http.executor-threads:8}") int executorThreads,
+            @Value("${ai.http.gemini.max-concurrent:16}") int geminiMaxConcurrent,
+            @Value("${ai.http.claude.max-concurrent:8}") int claudeMaxConcurrent) {
+
+        // HttpClient 내부 작업(응답 처리 / 본문 전달)은 거절하거나 호출 스레드(셀렉터 포함)에서 돌리면 안 되므로 대기열 무제한
+        // 동시 요청 수 제한은 아래 제공자별 세마포어가 담당
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(executorThreads, r -> {
+            Thread t = new Thread(r, "llm-http-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        permits.put(Provider.GEMINI, new Semaphore(geminiMaxConcurrent, true));
+        permits.put(Provider.CLAUDE, new Semaphore(claudeMaxConcurrent, true));
+    }
+
+    /** 요청 빌더에 읽기 타임아웃을 적용한 뒤 문자열 응답으로 받음 */
+    public HttpResponse<String> send(Provider provider, HttpRequest.Builder request) throws Exception {
+        HttpRequest built = request.timeout(readTimeout).build();
+        Semaphore permit = acquire(provider);
+        try {
+            return httpClient.send(built, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * 스트리밍 응답 (Claude SSE 등)
+     * handler가 스트림을 다 읽을 때까지 동시 요청 슬롯을 점유함
+     * 읽기 타임아웃은 응답 헤더 수신까지만 적용
+     */
+    public <T> T stream(Provider provider, HttpRequest.Builder request, StreamHandler<T> handler) throws Exception {
+        HttpRequest built = request.timeout(readTimeout).build();
+        Semaphore permit = acquire(provider);
+        try {
+            HttpResponse<InputStream> response =
+                    httpClient.send(built, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream ignored = response.body()) {
+                return handler.handle(response);
+            }
+        } finally {
+            permit.release();
+        }
+    }
+
+    public int availablePermits(Provider provider) {
+        return permits.get(provider).availablePermits();
+    }
+
+    private Semaphore acquire(Provider provider) throws InterruptedException {
+        Semaphore permit = permits.get(provider);
+        if (!permit.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            log.warn("{} 동시 요청 한도 초과 - 대기 {}ms 후 거절", provider, acquireTimeoutMs);
+            // 조향 파이프라인에서 '혼잡' 안내로 처리
+            throw new LlmSaturatedException(provider + " 동시 요청 한도 초과");
+        }
+        return permit;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /** 동시 요청 한도 초과, 또는 제공자 과부하(503 / 429)가 재시도 후에도 계속되는 경우 */
+    public static class LlmSaturatedException extends RuntimeException {
+
+        public LlmSaturatedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -4,7 +4,7 @@ import com.aion.back.announcement.dto.AnnouncementRequest;
 import com.aion.back.announcement.dto.AnnouncementResponse;
 import com.aion.back.announcement.entity.Announcement;
 import com.aion.back.announcement.repository.AnnouncementRepository;
-import com.aion.back.member.entity.Member;
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,8 +21,8 @@ public class AnnouncementService {
     private final MemberService memberService;
 
     private void validateAdmin(String token) {
-        Member member = memberService.getMemberEntityByToken(token);
-        if (!"ADMIN".equals(member.getRole())) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equals(principal.role())) {
             throw new RuntimeException("관리자 권한이 없습니다.");
         }
     }
@@ -2,16 +2,18 @@ package com.aion.back.cart.controller;
 
 import com.aion.back.cart.entity.Cart;
 import com.aion.back.cart.repository.CartRepository;
+import com.aion.back.cart.service.CartItemAddedEvent;
 import com.aion.back.common.response.ApiResponse;
 import com.aion.back.member.entity.Member;
 import com.aion.back.member.service.MemberService;
 import com.aion.back.perfume.entity.Perfume;
 import com.aion.back.perfume.repository.PerfumeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import com.aion.back.perfume.repository.PerfumeImageRepository;
+import com.aion.back.perfume.service.PerfumeThumbnailResolver;
 
 import java.util.List;
 import java.util.Map;
@@ -27,14 +29,15 @@ public class CartController {
     private final CartRepository cartRepository;
     private final PerfumeRepository perfumeRepository;
     private final MemberService memberService;
-    private final PerfumeImageRepository perfumeImageRepository;
+    private final PerfumeThumbnailResolver thumbnailResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PostMapping("/add")
     public ApiResponse<String> addToCart(
             @RequestHeader("Authorization") String token,
             @RequestBody Map<String, Object> request
     ){
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
         Long perfumeId = ((Number) request.get("perfumeId")).longValue();
         int quantity = ((Number) request.get("quantity")).intValue();
 
@@ -55,6 +58,7 @@ public class CartController {
             newCart.setItemType("PERFUME");
             newCart.setIsCustom(false);
             cartRepository.save(newCart);
+            eventPublisher.publishEvent(new CartItemAddedEvent(perfumeId));
         }
 
         return ApiResponse.success("장바구니에 담았습니다.");
@@ -65,7 +69,7 @@ public class CartController {
             @RequestHeader("Authorization") String token,
             @RequestBody Map<String, Object> request
     ) {
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
 
         Long customDesignId = ((Number) request.get("customDesignId")).longValue();
         String name = (String) request.get("name");
@@ -97,9 +101,14 @@ public class CartController {
 
     @GetMapping
     public ApiResponse<List<Map<String, Object>>> getMyCart(@RequestHeader("Authorization") String token) {
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
         List<Cart> carts = cartRepository.findByMember(member);
 
+        Map<Long, String> thumbnails = thumbnailResolver.resolve(carts.stream()
+                .filter(cart -> !Boolean.TRUE.equals(cart.getIsCustom()) && cart.getPerfume() != null)
+                .map(cart -> cart.getPerfume().getPerfumeId())
+                .collect(Collectors.toList()));
+
         List<Map<String, Object>> result = carts.stream().map(cart -> {
             Map<String, Object> map = new java.util.HashMap<>();
             map.put("cartId", cart.getCartId());
@@ -120,11 +129,7 @@ public class CartController {
                 map.put("name", cart.getPerfume().getName());
                 map.put("brand", cart.getPerfume().getBrand() != null ? cart.getPerfume().getBrand().getBrandId() : null);
                 map.put("price", cart.getPerfume().getSalePrice() != null ? cart.getPerfume().getSalePrice() : cart.getPerfume().getPrice());
-                String imageUrl = perfumeImageRepository
-                        .findByPerfumeAndIsThumbnailTrue(cart.getPerfume())
-                        .map(img -> img.getImageUrl())
-                        .orElse(null);
-                map.put("imageUrl", imageUrl);
+                map.put("imageUrl", thumbnails.get(cart.getPerfume().getPerfumeId()));
             }
 
             return map;
@@ -138,7 +143,7 @@ public class CartController {
             @RequestHeader("Authorization") String token,
             @RequestBody Map<String, Object> request
     ) {
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
 
         String name     = (String) request.get("name");
         Integer price   = ((Number) request.get("price")).intValue();
@@ -166,7 +171,7 @@ public class CartController {
             @PathVariable Long cartId,
             @RequestBody Map<String, Integer> request
     ) {
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
         int newQuantity = request.get("quantity");
 
         if(newQuantity < 1){
@@ -176,7 +181,7 @@ public class CartController {
         Cart cart = cartRepository.findById(cartId)
                 .orElseThrow(() -> new RuntimeException("장바구니 상품을 찾을 수 없습니다."));
 
-        if (!cart.getMember().getEmail().equals(member.getEmail())){
+        if (!cart.getMember().getUserId().equals(member.getUserId())){
             throw new RuntimeException("권한이 없습니다.");
         }
 
@@ -196,7 +201,7 @@ public class CartController {
             @RequestHeader("Authorization") String token,
             @RequestBody Map<String, Object> request
     ) {
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
 
         @SuppressWarnings("unchecked")
         List<Integer> rawIds = (List<Integer>) request.get("cartItemIds");
@@ -233,11 +238,11 @@ public class CartController {
             @RequestHeader("Authorization") String token,
             @PathVariable Long cartId
     ) {
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
         Cart cart = cartRepository.findById(cartId)
                 .orElseThrow(() -> new RuntimeException("장바구니 상품을 찾을 수 없습니다."));
 
-        if (!cart.getMember().getEmail().equals(member.getEmail())){
+        if (!cart.getMember().getUserId().equals(member.getUserId())){
             throw new RuntimeException("권한이 없습니다.");
         }
 
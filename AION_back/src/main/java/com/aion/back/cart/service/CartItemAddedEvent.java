@@ -0,0 +1,7 @@
+package com.aion.back.cart.service;
+
+/**
+ * 장바구니에 향수가 새로 담긴 이벤트 (이미 담긴 향수의 수량 추가는 제외)
+ * 커밋 이후 향수별 장바구니 통계 집계에 사용
+ */
+public record CartItemAddedEvent(Long perfumeId) {}
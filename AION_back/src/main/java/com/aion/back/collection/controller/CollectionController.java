@@ -4,6 +4,7 @@ import com.aion.back.collection.dto.response.PerfumeNotesResponse;
 import com.aion.back.collection.service.CollectionService;
 import com.aion.back.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -22,13 +23,11 @@ public class CollectionController {
                 collectionService.getPerfumeNotes(perfumeId)
         );
     }
+    // 미리 직렬화된 본문 + ETag (If-None-Match 일치 시 304)
     @GetMapping("/active")
-    public ApiResponse<?> getActiveCollections(
+    public ResponseEntity<byte[]> getActiveCollections(
             @RequestParam String type) {
 
-        return ApiResponse.success(
-                "컬렉션 조회 성공",
-                collectionService.getActiveCollection(type)
-        );
+        return collectionService.getActiveLanding(type).toResponse();
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.aion.back.collection.dto;
 import com.aion.back.collection.entity.*;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized
 public class CollectionDetailResponse {
 
     private UUID collectionId;
@@ -27,7 +29,7 @@ public class CollectionDetailResponse {
     private List<TextBlockDto> textBlocks;
     private List<PerfumeDto> perfumes;
 
-    @Getter @Builder
+    @Getter @Builder @Jacksonized
     public static class MediaDto {
         private String mediaId;
         private String mediaUrl;
@@ -35,7 +37,7 @@ public class CollectionDetailResponse {
         private Integer displayOrder;
     }
 
-    @Getter @Builder
+    @Getter @Builder @Jacksonized
     public static class TextBlockDto {
         private String textBlockId;
         private String content;
@@ -47,7 +49,7 @@ public class CollectionDetailResponse {
         private Integer displayOrder;
     }
 
-    @Getter @Builder
+    @Getter @Builder @Jacksonized
     public static class PerfumeDto {
         private Long perfumeId;
         private String name;
@@ -0,0 +1,131 @@
+package com.aion.back.collection.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 컬렉션 / 시그니처 상세 조회 쿼리
+ *
+ * Collections 행 + 미디어 / 텍스트 블록 / 향수 목록을 json_agg로 묶어 한 문장, 한 번의 왕복으로 읽는다.
+ * (기존: 존재 확인 + 본문 + 하위 테이블 3개를 각각 새 커넥션에서 조회)
+ * JSON 키는 상세 응답 DTO 필드명과 같아서 그대로 역직렬화된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CollectionDetailJdbcRepository {
+
+    // 시각은 세션 시간대 기준 LocalDateTime 문자열로 (기존 getTimestamp().toLocalDateTime()과 같은 값)
+    private static final String FIND_DETAIL = """
+            SELECT json_build_object(
+                       'collectionId', c.collection_id,
+                       'title', c.title,
+                       'description', c.description,
+                       'type', c.type,
+                       'textColor', c.text_color,
+                       'isPublished', COALESCE(c.is_published, false),
+                       'isActive', COALESCE(c.is_active, false),
+                       'createdAt', to_char(c.created_at, 'YYYY-MM-DD"T"HH24:MI:SS.US'),
+                       'visibleFrom', to_char(c.visible_from, 'YYYY-MM-DD"T"HH24:MI:SS.US'),
+                       'visibleUntil', to_char(c.visible_until, 'YYYY-MM-DD"T"HH24:MI:SS.US'),
+                       'mediaList', COALESCE((
+                           SELECT json_agg(json_build_object(
+                                      'mediaId', m.media_id::text,
+                                      'mediaUrl', m.media_url,
+                                      'mediaType', m.media_type,
+                                      'displayOrder', m.display_order
+                                  ) ORDER BY m.display_order)
+                             FROM "Collection_Media" m
+                            WHERE m.collection_id = c.collection_id), '[]'::json),
+                       'textBlocks', COALESCE((
+                           SELECT json_agg(json_build_object(
+                                      'textBlockId', t.text_block_id::text,
+                                      'content', t.content,
+                                      'fontSize', t.font_size,
+                                      'fontWeight', t.font_weight,
+                                      'isItalic', COALESCE(t.is_italic, false),
+                                      'positionX', t.position_x,
+                                      'positionY', t.position_y,
+                                      'displayOrder', t.display_order
+                                  ) ORDER BY t.display_order)
+                             FROM "Collection_Text_Blocks" t
+                            WHERE t.collection_id = c.collection_id), '[]'::json),
+                       'perfumes', COALESCE((
+                           SELECT json_agg(json_build_object(
+                                      'perfumeId', cp.perfume_id,
+                                      'name', p.name,
+                                      'nameEn', p.name_en,
+                                      'price', p.price,
+                                      'salePrice', p.sale_price,
+                                      'saleRate', p.sale_rate,
+                                      'brandName', b.brand_name,
+                                      'thumbnail', pi.image_url,
+                                      'displayOrder', cp.display_order,
+                                      'isFeatured', COALESCE(cp.is_featured, false)
+                                  ) ORDER BY cp.display_order)
+                             FROM "Collection_Perfumes" cp
+                             LEFT JOIN "Perfumes" p ON p.perfume_id = cp.perfume_id
+                             LEFT JOIN "Brands" b ON b.brand_id = p.brand_id
+                             LEFT JOIN "Perfume_Images" pi ON pi.perfume_id = p.perfume_id AND pi.is_thumbnail = true
+                            WHERE cp.collection_id = c.collection_id), '[]'::json)
+                   )::text AS detail
+              FROM "Collections" c
+             WHERE c.collection_id = :collectionId
+            """;
+
+    private static final String FIND_ACTIVE_WINDOW = """
+            SELECT collection_id, visible_from, visible_until
+              FROM "Collections"
+             WHERE type = :type AND is_active = true
+             LIMIT 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param view 상세 응답 DTO 타입 (CollectionDetailResponse / SignatureDetailResponse)
+     * @return 없으면 empty
+     */
+    public <T> Optional<T> findDetail(UUID collectionId, Class<T> view) {
+        List<String> rows = jdbcTemplate.queryForList(FIND_DETAIL,
+                new MapSqlParameterSource("collectionId", collectionId), String.class);
+        if (rows.isEmpty()) return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue(rows.get(0), view));
+        } catch (Exception e) {
+            throw new RuntimeException("컬렉션 상세 변환 오류: " + e.getMessage(), e);
+        }
+    }
+
+    /** 타입별 활성 컬렉션과 노출 기간. 활성 컬렉션이 없으면 empty */
+    public Optional<ActiveWindow> findActiveWindow(String type) {
+        List<ActiveWindow> rows = jdbcTemplate.query(FIND_ACTIVE_WINDOW, new MapSqlParameterSource("type", type),
+                (rs, i) -> new ActiveWindow(
+                        UUID.fromString(rs.getString("collection_id")),
+                        toLocalDateTime(rs.getTimestamp("visible_from")),
+                        toLocalDateTime(rs.getTimestamp("visible_until"))));
+        return rows.stream().findFirst();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+
+    /** visible_from / visible_until 이 null이면 그쪽으로는 제한 없음 */
+    public record ActiveWindow(UUID collectionId, LocalDateTime visibleFrom, LocalDateTime visibleUntil) {
+
+        public boolean isVisibleAt(LocalDateTime at) {
+            return (visibleFrom == null || !at.isBefore(visibleFrom))
+                    && (visibleUntil == null || at.isBefore(visibleUntil));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.aion.back.collection.service;
+
+import com.aion.back.collection.repository.CollectionDetailJdbcRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * collection_id → 상세 응답 버전 캐시 (컬렉션 / 시그니처 공용)
+ *
+ * 무효화할 때마다 해당 id의 버전을 올리고, 조회 결과는 조회 시작 시점 버전이 그대로일 때만 저장한다.
+ * → 수정과 동시에 진행된 조회가 옛 내용을 새로 캐시하는 일이 없다.
+ * 활성 전환처럼 같은 타입 전체가 바뀌는 경우는 전체 버전(epoch)을 올린다.
+ */
+@Component
+public class CollectionDetailCache {
+
+    private final CollectionDetailJdbcRepository detailRepository;
+    private final Cache<UUID, Entry> cache;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+    private volatile long epoch;
+
+    public CollectionDetailCache(CollectionDetailJdbcRepository detailRepository,
+                                 @Value("${collection.detail-cache.ttl-seconds:600}") long ttlSeconds,
+                                 @Value("${collection.detail-cache.max-size:500}") long maxSize,
+                                 MeterRegistry meterRegistry) {
+        this.detailRepository = detailRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "collectionDetails");
+    }
+
+    /**
+     * @param view 상세 응답 DTO 타입 (같은 id를 다른 타입으로 읽으면 다시 조회해 덮어쓴다)
+     * @return 없으면 empty (없는 id는 캐시하지 않음)
+     */
+    public <T> Optional<T> get(UUID collectionId, Class<T> view) {
+        long version = version(collectionId);
+        Entry cached = cache.getIfPresent(collectionId);
+        if (cached != null && cached.version() == version && view.isInstance(cached.detail())) {
+            return Optional.of(view.cast(cached.detail()));
+        }
+
+        Optional<T> loaded = detailRepository.findDetail(collectionId, view);
+        loaded.ifPresent(detail -> cache.asMap().compute(collectionId,
+                (id, old) -> version(id) == version ? new Entry(version, detail) : old));
+        return loaded;
+    }
+
+    /** 지금 바로, 그리고 진행 중인 트랜잭션이 있으면 커밋 후 한 번 더 무효화 */
+    public void evictAfterCommit(UUID collectionId) {
+        evict(collectionId);
+        afterCommit(() -> evict(collectionId));
+    }
+
+    /** 같은 타입의 다른 컬렉션 활성 여부까지 바뀌는 경우 (활성 전환) */
+    public void evictAllAfterCommit() {
+        evictAll();
+        afterCommit(this::evictAll);
+    }
+
+    private void evict(UUID collectionId) {
+        versions.put(collectionId, clock.incrementAndGet());
+        cache.invalidate(collectionId);
+    }
+
+    private void evictAll() {
+        epoch = clock.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private long version(UUID collectionId) {
+        return Math.max(versions.getOrDefault(collectionId, 0L), epoch);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private record Entry(long version, Object detail) {}
+}
@@ -13,7 +13,9 @@ import com.aion.back.collection.repository.CollectionRepository;
 import com.aion.back.collection.repository.CollectionTextBlockRepository;
 import com.aion.back.collection.repository.PerfumeNoteRepository;
 import com.aion.back.collection.repository.ScentRepository;
-import com.aion.back.member.entity.Member;
+import com.aion.back.collection.service.LandingPayloadCache.LandingPayload;
+import com.aion.back.collection.service.LandingPayloadCache.LandingView;
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +35,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CollectionService {
 
+    private static final LandingView LANDING_VIEW = new LandingView("컬렉션 조회 성공", null);
+
     private final CollectionRepository collectionRepository;
     private final CollectionMediaRepository mediaRepository;
     private final CollectionTextBlockRepository textBlockRepository;
@@ -41,10 +45,12 @@ public class CollectionService {
     private final DataSource dataSource;
     private final PerfumeNoteRepository perfumeNoteRepository;
     private final ScentRepository scentRepository;
+    private final CollectionDetailCache collectionDetailCache;
+    private final LandingPayloadCache landingPayloadCache;
 
     private void validateAdmin(String token) {
-        Member member = memberService.getMemberEntityByToken(token);
-        if (!"ADMIN".equals(member.getRole())) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equals(principal.role())) {
             throw new RuntimeException("관리자 권한이 없습니다.");
         }
     }
@@ -107,6 +113,8 @@ public class CollectionService {
             ps.executeUpdate();
         } catch (Exception e) { throw new RuntimeException("컬렉션 생성 오류: " + e.getMessage(), e); }
         saveSubData(newId, req);
+        collectionDetailCache.evictAfterCommit(newId);
+        landingPayloadCache.refreshAfterCommit();
         return buildDetail(newId);
     }
 
@@ -138,6 +146,9 @@ public class CollectionService {
             }
         } catch (Exception e) { throw new RuntimeException("하위 데이터 삭제 오류: " + e.getMessage(), e); }
         saveSubData(collectionId, req);
+        if (Boolean.TRUE.equals(req.getIsActive())) collectionDetailCache.evictAllAfterCommit();
+        else collectionDetailCache.evictAfterCommit(collectionId);
+        landingPayloadCache.refreshAfterCommit();
         return buildDetail(collectionId);
     }
 
@@ -155,6 +166,8 @@ public class CollectionService {
                 ps.setString(1, collectionId.toString()); ps.executeUpdate();
             } catch (Exception e) { throw new RuntimeException("활성화 오류: " + e.getMessage(), e); }
         }
+        collectionDetailCache.evictAllAfterCommit();
+        landingPayloadCache.refreshAfterCommit();
     }
 
     @Transactional
@@ -172,18 +185,14 @@ public class CollectionService {
              PreparedStatement ps = conn.prepareStatement("DELETE FROM \"Collections\" WHERE collection_id = ?::uuid")) {
             ps.setString(1, collectionId.toString()); ps.executeUpdate();
         } catch (Exception e) { throw new RuntimeException("삭제 오류: " + e.getMessage(), e); }
+        collectionDetailCache.evictAfterCommit(collectionId);
+        landingPayloadCache.refreshAfterCommit();
     }
 
-    @Transactional(readOnly = true)
-    public CollectionDetailResponse getActiveCollection(String type) {
-        String sql = "SELECT * FROM \"Collections\" WHERE type = ? AND is_active = true LIMIT 1";
-        try (Connection conn = dataSource.getConnection(); PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, type);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) return buildDetail(mapCollectionEntity(rs).getCollectionId());
-            }
-        } catch (Exception e) { throw new RuntimeException("활성 컬렉션 조회 오류: " + e.getMessage(), e); }
-        throw new RuntimeException("활성화된 컬렉션이 없습니다.");
+    // 트랜잭션 없이 (캐시 적중 시 커넥션을 잡지 않도록)
+    public LandingPayload getActiveLanding(String type) {
+        return landingPayloadCache.get(LANDING_VIEW, type)
+                .orElseThrow(() -> new RuntimeException("활성화된 컬렉션이 없습니다."));
     }
 
     private CollectionEntity findCollectionById(UUID id) {
@@ -259,59 +268,9 @@ public class CollectionService {
         } catch (Exception e) { throw new RuntimeException("서브 데이터 저장 오류: " + e.getMessage(), e); }
     }
 
+    // 상세는 한 문장으로 읽고 collection_id 버전 캐시에 보관 (생성 / 수정 / 활성 전환 / 삭제 시 무효화)
     private CollectionDetailResponse buildDetail(UUID collectionId) {
-        CollectionEntity collection = findCollectionById(collectionId);
-        List<CollectionDetailResponse.MediaDto> mediaList = new ArrayList<>();
-        List<CollectionDetailResponse.TextBlockDto> textBlocks = new ArrayList<>();
-        List<CollectionDetailResponse.PerfumeDto> perfumeDtos = new ArrayList<>();
-        try (Connection conn = dataSource.getConnection()) {
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "SELECT media_id, media_url, media_type, display_order FROM \"Collection_Media\" WHERE collection_id = ?::uuid ORDER BY display_order ASC")) {
-                ps.setString(1, collectionId.toString());
-                try (ResultSet rs = ps.executeQuery()) {
-                    while (rs.next()) mediaList.add(CollectionDetailResponse.MediaDto.builder()
-                            .mediaId(rs.getString("media_id")).mediaUrl(rs.getString("media_url"))
-                            .mediaType(rs.getString("media_type"))
-                            .displayOrder(rs.getObject("display_order") != null ? rs.getInt("display_order") : null).build());
-                }
-            }
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "SELECT text_block_id, content, font_size, font_weight, is_italic, position_x, position_y, display_order FROM \"Collection_Text_Blocks\" WHERE collection_id = ?::uuid ORDER BY display_order ASC")) {
-                ps.setString(1, collectionId.toString());
-                try (ResultSet rs = ps.executeQuery()) {
-                    while (rs.next()) textBlocks.add(CollectionDetailResponse.TextBlockDto.builder()
-                            .textBlockId(rs.getString("text_block_id")).content(rs.getString("content"))
-                            .fontSize(rs.getString("font_size")).fontWeight(rs.getString("font_weight"))
-                            .isItalic(rs.getBoolean("is_italic")).positionX(rs.getString("position_x"))
-                            .positionY(rs.getString("position_y"))
-                            .displayOrder(rs.getObject("display_order") != null ? rs.getInt("display_order") : null).build());
-                }
-            }
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "SELECT cp.perfume_id, cp.display_order, cp.is_featured, p.name, p.name_en, p.price, p.sale_price, p.sale_rate, b.brand_name, pi.image_url as thumbnail " +
-                    "FROM \"Collection_Perfumes\" cp LEFT JOIN \"Perfumes\" p ON cp.perfume_id = p.perfume_id " +
-                    "LEFT JOIN \"Brands\" b ON p.brand_id = b.brand_id " +
-                    "LEFT JOIN \"Perfume_Images\" pi ON p.perfume_id = pi.perfume_id AND pi.is_thumbnail = true " +
-                    "WHERE cp.collection_id = ?::uuid ORDER BY cp.display_order ASC")) {
-                ps.setString(1, collectionId.toString());
-                try (ResultSet rs = ps.executeQuery()) {
-                    while (rs.next()) perfumeDtos.add(CollectionDetailResponse.PerfumeDto.builder()
-                            .perfumeId(rs.getLong("perfume_id")).name(rs.getString("name")).nameEn(rs.getString("name_en"))
-                            .price(rs.getObject("price") != null ? rs.getInt("price") : null)
-                            .salePrice(rs.getObject("sale_price") != null ? rs.getInt("sale_price") : null)
-                            .saleRate(rs.getObject("sale_rate") != null ? rs.getInt("sale_rate") : null)
-                            .brandName(rs.getString("brand_name")).thumbnail(rs.getString("thumbnail"))
-                            .displayOrder(rs.getObject("display_order") != null ? rs.getInt("display_order") : null)
-                            .isFeatured(rs.getBoolean("is_featured")).build());
-                }
-            }
-        } catch (Exception e) { throw new RuntimeException("컬렉션 상세 조회 중 오류: " + e.getMessage(), e); }
-        return CollectionDetailResponse.builder()
-                .collectionId(collection.getCollectionId()).title(collection.getTitle())
-                .description(collection.getDescription()).type(collection.getType())
-                .textColor(collection.getTextColor()).isPublished(collection.getIsPublished())
-                .isActive(collection.getIsActive()).visibleFrom(collection.getVisibleFrom())
-                .visibleUntil(collection.getVisibleUntil()).createdAt(collection.getCreatedAt())
-                .mediaList(mediaList).textBlocks(textBlocks).perfumes(perfumeDtos).build();
+        return collectionDetailCache.get(collectionId, CollectionDetailResponse.class)
+                .orElseThrow(() -> new RuntimeException("컬렉션을 찾을 수 없습니다."));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package com.aion.back.collection.service;
+
+import com.aion.back.collection.dto.CollectionDetailResponse;
+import com.aion.back.collection.repository.CollectionDetailJdbcRepository;
+import com.aion.back.collection.repository.CollectionDetailJdbcRepository.ActiveWindow;
+import com.aion.back.common.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 스토어 랜딩용 활성 컬렉션 / 시그니처 응답 캐시
+ *
+ * 타입별 응답 본문(ApiResponse JSON)을 UTF-8 바이트와 ETag로 미리 만들어 두고 그대로 내려준다. → 방문자 요청은 DB를 타지 않음
+ * visible_from / visible_until 경계마다 바뀔 본문을 만들 때 함께 계산해 두고, 요청 시각에 맞는 것을 고른다.
+ * (경계 시각에 다시 조회하지 않고 정확한 시각에 전환)
+ * 관리자 생성 / 수정 / 활성 전환 / 삭제 커밋 후 다시 만들고, landing.payload-cache.ttl-seconds 가 지나도 다시 만든다.
+ * (향수 가격 등 컬렉션 밖 데이터 변경 반영 → 상세 캐시를 거치지 않고 DB에서 바로 읽는다)
+ * 타입은 요청 파라미터 그대로라 활성 컬렉션도 노출 안내 메시지도 없는 타입은 저장하지 않고,
+ * 저장 개수도 landing.payload-cache.max-size 로 제한한다.
+ */
+@Slf4j
+@Component
+public class LandingPayloadCache {
+
+    private final CollectionDetailJdbcRepository detailRepository;
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+
+    private final Cache<Key, Snapshot> snapshots;
+
+    public LandingPayloadCache(CollectionDetailJdbcRepository detailRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${landing.payload-cache.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${landing.payload-cache.max-size:50}") long maxSize,
+                               MeterRegistry meterRegistry) {
+        this.detailRepository = detailRepository;
+        this.objectMapper = objectMapper;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "landingPayloads");
+    }
+
+    /**
+     * @return 지금 노출할 본문. 활성 컬렉션이 없거나 노출 기간 밖이고 view.hiddenMessage 가 null이면 empty
+     */
+    public Optional<LandingPayload> get(LandingView view, String type) {
+        Key key = new Key(view, type);
+        Snapshot snapshot = snapshots.getIfPresent(key);
+        if (snapshot == null || snapshot.isExpired(ttlNanos)) {
+            snapshot = snapshots.asMap().compute(key, (k, old) -> old != null && !old.isExpired(ttlNanos) ? old : build(k));
+        }
+        return Optional.ofNullable(snapshot).map(s -> s.payloadAt(LocalDateTime.now()));
+    }
+
+    /** 진행 중인 트랜잭션이 있으면 커밋 후, 없으면 즉시 만들어 둔 본문을 모두 다시 만든다. */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshAll();
+                }
+            });
+        } else {
+            refreshAll();
+        }
+    }
+
+    private void refreshAll() {
+        for (Key key : List.copyOf(snapshots.asMap().keySet())) {
+            try {
+                snapshots.asMap().compute(key, (k, old) -> build(k));
+            } catch (Exception e) {
+                // 다음 요청에서 다시 만듦
+                snapshots.invalidate(key);
+                log.warn("랜딩 캐시 갱신 실패 ({}): {}", key.type(), e.getMessage());
+            }
+        }
+    }
+
+    /** @return 활성 컬렉션도 노출 안내 메시지도 없으면 null (저장하지 않음) */
+    private Snapshot build(Key key) {
+        LandingPayload hidden = key.view().hiddenMessage() != null
+                ? serialize(ApiResponse.success(key.view().hiddenMessage(), null))
+                : null;
+
+        Optional<ActiveWindow> active = detailRepository.findActiveWindow(key.type());
+        Optional<CollectionDetailResponse> detail = active
+                .flatMap(w -> detailRepository.findDetail(w.collectionId(), CollectionDetailResponse.class));
+        if (detail.isEmpty()) {
+            if (hidden == null) return null;
+            return new Snapshot(List.of(new Phase(LocalDateTime.MIN, hidden)), System.nanoTime());
+        }
+
+        ActiveWindow window = active.get();
+        LandingPayload visible = serialize(ApiResponse.success(key.view().visibleMessage(), detail.get()));
+
+        // 노출 기간 경계마다 그 시각부터 내려줄 본문
+        List<Phase> phases = new ArrayList<>();
+        Stream.of(LocalDateTime.MIN, window.visibleFrom(), window.visibleUntil())
+                .filter(Objects::nonNull)
+                .sorted()
+                .forEach(at -> phases.add(new Phase(at, window.isVisibleAt(at) ? visible : hidden)));
+        return new Snapshot(phases, System.nanoTime());
+    }
+
+    private LandingPayload serialize(Object body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return new LandingPayload(bytes, "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"");
+        } catch (Exception e) {
+            throw new RuntimeException("랜딩 응답 직렬화 오류: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 엔드포인트별 응답 메시지
+     *
+     * @param hiddenMessage 노출할 컬렉션이 없을 때의 메시지 (null이면 본문 없이 empty → 호출 측에서 처리)
+     */
+    public record LandingView(String visibleMessage, String hiddenMessage) {}
+
+    public record LandingPayload(byte[] body, String etag) {
+
+        /** If-None-Match 가 ETag와 같으면 스프링이 본문 없이 304로 응답 */
+        public ResponseEntity<byte[]> toResponse() {
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+    }
+
+    private record Key(LandingView view, String type) {}
+
+    private record Phase(LocalDateTime from, LandingPayload payload) {}
+
+    private record Snapshot(List<Phase> phases, long builtAtNanos) {
+
+        boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - builtAtNanos > ttlNanos;
+        }
+
+        LandingPayload payloadAt(LocalDateTime now) {
+            LandingPayload current = null;
+            for (Phase phase : phases) {
+                if (phase.from().isAfter(now)) break;
+                current = phase.payload();
+            }
+            return current;
+        }
+    }
+}
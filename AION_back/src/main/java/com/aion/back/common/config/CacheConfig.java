@@ -1,6 +1,8 @@
 package com.aion.back.common.config;
 
+import com.aion.back.inquiry.service.InquiryQueueService;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -14,7 +16,8 @@ import java.util.concurrent.TimeUnit;
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(
+            @Value("${admin.inquiry.status-counts-ttl-seconds:5}") long statusCountsTtlSeconds) {
         CaffeineCacheManager manager = new CaffeineCacheManager("scentCategories");
         manager.setCaffeine(
             Caffeine.newBuilder()
@@ -22,6 +25,13 @@ public class CacheConfig {
                 .maximumSize(100)
                 .recordStats()
         );
+        // 관리자 문의 상태별 건수: 몇 초만 캐시 (화면 새로고침마다 GROUP BY 하지 않도록)
+        manager.registerCustomCache(InquiryQueueService.STATUS_COUNTS_CACHE,
+            Caffeine.newBuilder()
+                .expireAfterWrite(statusCountsTtlSeconds, TimeUnit.SECONDS)
+                .maximumSize(1)
+                .build()
+        );
         return manager;
     }
 }
\ No newline at end of file
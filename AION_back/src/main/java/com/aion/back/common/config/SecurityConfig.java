@@ -1,5 +1,7 @@
 package com.aion.back.common.config;
 
+import com.aion.back.common.security.AuthPrincipalFilter;
+import com.aion.back.member.service.MemberPrincipalCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -7,6 +9,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -23,13 +26,20 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           SupabaseJwtValidator jwtValidator,
+                                           MemberPrincipalCache principalCache) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // 메트릭(캐시 적중률, 지연 시간, 큐 길이 등)은 관리자만, health는 공개
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
                         .anyRequest().permitAll()
-                );
+                )
+                // 요청당 토큰 1회 검증 → AuthPrincipal (@AuthMember)
+                .addFilterBefore(new AuthPrincipalFilter(jwtValidator, principalCache),
+                        UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
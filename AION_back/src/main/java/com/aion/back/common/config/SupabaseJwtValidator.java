@@ -1,23 +1,43 @@
 package com.aion.back.common.config;
 
+import java.nio.charset.StandardCharsets;
 import java.security.AlgorithmParameters;
 import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.security.spec.ECGenParameterSpec;
 import java.security.spec.ECParameterSpec;
 import java.security.spec.ECPoint;
 import java.security.spec.ECPublicKeySpec;
 import java.util.Base64;
+import java.util.Date;
 import java.math.BigInteger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Supabase 액세스 토큰(ES256) 검증
+ *
+ * 공개키와 파서는 시작 시 한 번만 만든다. (JwtParser는 불변 → 스레드 안전)
+ * 검증에 성공한 토큰은 SHA-256 해시 → Claims로 토큰 만료(exp) 시각까지 캐시해서,
+ * 같은 토큰으로 다시 들어온 요청은 서명 검증(ECDSA)을 건너뛴다.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SupabaseJwtValidator {
 
     @Value("${supabase.jwt.x}")
@@ -26,24 +46,62 @@ public class SupabaseJwtValidator {
     @Value("${supabase.jwt.y}")
     private String yValue;
 
+    @Value("${supabase.jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    private final MeterRegistry meterRegistry;
+
+    private JwtParser parser;
+    private Cache<String, Claims> claimsCache;
+
+    @PostConstruct
+    void init() throws Exception {
+        parser = Jwts.parserBuilder()
+                .setSigningKey(getPublicKeyFromXY())
+                .build();
+
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwtClaims");
+    }
+
     public String validateAndGetEmail(String bearerToken) {
         return getClaims(bearerToken).get("email", String.class);
     }
 
     private Claims getClaims(String bearerToken) {
+        String token = bearerToken.replace("Bearer ", "").trim();
+        String key = hash(token);
+
+        Claims cached = claimsCache.getIfPresent(key);
+        if (cached != null) return cached;
+
         try {
-            String token = bearerToken.replace("Bearer ", "").trim();
-            return Jwts.parserBuilder()
-                    .setSigningKey(getPublicKeyFromXY())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            // exp 없는 토큰은 만료 시각을 알 수 없으므로 캐시하지 않음
+            if (claims.getExpiration() != null) {
+                claimsCache.put(key, claims);
+            }
+            return claims;
         } catch (Exception e) {
             log.error("JWT 검증 실패: {}", e.getMessage());
             throw new JwtException("유효하지 않은 토큰입니다.");
         }
     }
 
+    // 원문 토큰 대신 해시를 키로 보관
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private PublicKey getPublicKeyFromXY() throws Exception {
         byte[] xBytes = Base64.getUrlDecoder().decode(xValue);
         byte[] yBytes = Base64.getUrlDecoder().decode(yValue);
@@ -60,4 +118,25 @@ public class SupabaseJwtValidator {
         KeyFactory keyFactory = KeyFactory.getInstance("EC");
         return keyFactory.generatePublic(keySpec);
     }
-}
\ No newline at end of file
+
+    /** 캐시 항목 수명 = 토큰 exp까지 남은 시간 */
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            long remainingMillis = exp.getTime() - System.currentTimeMillis();
+            return Math.max(0L, remainingMillis) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.aion.back.common.export;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 전체 내역 NDJSON 내보내기 (한 줄 = JSON 객체 하나)
+ *
+ * 쿼리는 JSON 텍스트 한 컬럼(json_build_object(...)::text)을 반환하고, 여기서는 줄 단위로 그대로 흘려보낸다.
+ * fetch size 커서로 export.fetch-size 행씩 받아 쓰므로 내역이 아무리 길어도 전체 목록을 힙에 올리지 않는다.
+ * (Postgres는 트랜잭션 안에서만 커서로 읽음 → 읽기 전용 트랜잭션으로 감쌈)
+ */
+@Component
+public class NdjsonExporter {
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public NdjsonExporter(DataSource dataSource,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${export.fetch-size:500}") int fetchSize) {
+        JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+        cursorTemplate.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(cursorTemplate);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StreamingResponseBody stream(String sql, SqlParameterSource params) {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            readOnlyTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.query(sql, params, (RowCallbackHandler) rs -> {
+                        try {
+                            writer.write(rs.getString(1));
+                            writer.write('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            writer.flush();
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.aion.back.common.pagination;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class CursorPage<T> {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    private List<T> items;
+
+    // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+    private String nextCursor;
+
+    /** 요청 size 보정 (없으면 20, 최대 100) */
+    public static int pageSize(Integer size) {
+        return size == null || size < 1 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * size + 1건 조회 결과로 페이지 구성 (한 건 더 있으면 다음 페이지 존재)
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        return CursorPage.<T>builder()
+                .items(page.stream().map(mapper).toList())
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+}
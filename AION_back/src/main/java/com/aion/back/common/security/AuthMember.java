@@ -0,0 +1,19 @@
+package com.aion.back.common.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 요청의 AuthPrincipal 주입
+ *
+ * 예) public ApiResponse<?> list(@AuthMember AuthPrincipal principal)
+ * Authorization 헤더가 없거나 검증에 실패하면 "인증이 필요합니다." 예외 (required = false면 null)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AuthMember {
+
+    boolean required() default true;
+}
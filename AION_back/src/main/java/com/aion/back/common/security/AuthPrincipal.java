@@ -0,0 +1,14 @@
+package com.aion.back.common.security;
+
+import com.aion.back.member.entity.AccountStatus;
+
+/**
+ * 인증된 회원의 최소 정보 (요청 단위로 한 번만 확인)
+ * 연관관계 설정이나 회원 ID 조건 조회에는 엔티티 대신 이것으로 충분
+ */
+public record AuthPrincipal(Long userId, String email, String role, AccountStatus accountStatus) {
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+}
@@ -0,0 +1,76 @@
+package com.aion.back.common.security;
+
+import com.aion.back.common.config.SupabaseJwtValidator;
+import com.aion.back.member.service.MemberPrincipalCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authorization: Bearer 토큰을 요청당 한 번만 검증해서 AuthPrincipal을 요청 속성에 보관
+ *
+ * 모든 경로가 permitAll이라 여기서 요청을 막지는 않는다. (검증 실패 시 그냥 통과)
+ * 인증이 필요한 곳은 @AuthMember 또는 MemberService.getPrincipalByToken에서 판단한다.
+ * SecurityConfig에서만 등록 (서블릿 필터로 중복 등록되지 않도록 빈으로 만들지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AuthPrincipalFilter extends OncePerRequestFilter {
+
+    static final String PRINCIPAL_ATTRIBUTE = AuthPrincipalFilter.class.getName() + ".principal";
+    private static final String TOKEN_ATTRIBUTE = AuthPrincipalFilter.class.getName() + ".token";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SupabaseJwtValidator jwtValidator;
+    private final MemberPrincipalCache principalCache;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            String token = stripBearer(header);
+            try {
+                AuthPrincipal principal = principalCache.get(jwtValidator.validateAndGetEmail(token));
+                request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+                request.setAttribute(TOKEN_ATTRIBUTE, token);
+
+                String role = principal.role() != null ? principal.role() : "USER";
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+            } catch (Exception e) {
+                log.debug("요청 인증 생략 - {}", e.getMessage());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * 현재 요청에서 같은 토큰으로 이미 확인한 회원. 없으면 null
+     * (서비스 계층이 토큰 문자열만 받는 기존 메서드에서도 재검증 없이 쓰도록)
+     */
+    public static AuthPrincipal resolvedFor(String token) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || token == null) return null;
+        Object resolvedToken = attributes.getAttribute(TOKEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (!stripBearer(token).equals(resolvedToken)) return null;
+        return (AuthPrincipal) attributes.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private static String stripBearer(String token) {
+        return token.replace(BEARER_PREFIX, "").trim();
+    }
+}
@@ -1,9 +1,14 @@
 package com.aion.back.coupon.controller;
 
 import com.aion.back.common.response.ApiResponse;
+import com.aion.back.common.security.AuthPrincipal;
+import com.aion.back.coupon.dto.request.CouponBulkIssueRequest;
 import com.aion.back.coupon.dto.request.CouponCreateRequest;
+import com.aion.back.coupon.dto.response.CouponBulkIssueResponse;
 import com.aion.back.coupon.entity.Coupon;
+import com.aion.back.coupon.service.CouponBulkIssueService;
 import com.aion.back.coupon.service.CouponService;
+import com.aion.back.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,10 +19,41 @@ import org.springframework.web.bind.annotation.*;
 public class CouponAdminController {
 
     private final CouponService couponService;
+    private final CouponBulkIssueService bulkIssueService;
+    private final MemberService memberService;
+
+    /** 토큰의 회원 권한이 ADMIN 인지 검증 */
+    private void verifyAdmin(String token) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equalsIgnoreCase(principal.role())) {
+            throw new RuntimeException("관리자 권한이 필요합니다.");
+        }
+    }
 
     @PostMapping
     public ApiResponse<Coupon> createCoupon(@RequestBody CouponCreateRequest request) {
         Coupon savedCoupon = couponService.createCoupon(request);
         return ApiResponse.success("쿠폰이 생성되었습니다.", savedCoupon);
     }
-}
\ No newline at end of file
+
+    /** 등급별 / 전체 회원 일괄 발급 시작 (백그라운드 실행, 작업 ID로 진행 조회) */
+    @PostMapping("/{couponId}/bulk-issue")
+    public ApiResponse<CouponBulkIssueResponse> bulkIssue(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long couponId,
+            @RequestBody(required = false) CouponBulkIssueRequest request) {
+        verifyAdmin(token);
+        CouponBulkIssueResponse job = bulkIssueService.start(couponId,
+                request != null ? request.getRankIds() : null,
+                request != null ? request.getIssueLimit() : null);
+        return ApiResponse.success("쿠폰 일괄 발급이 시작되었습니다.", job);
+    }
+
+    @GetMapping("/bulk-issue/{jobId}")
+    public ApiResponse<CouponBulkIssueResponse> getBulkIssueProgress(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long jobId) {
+        verifyAdmin(token);
+        return ApiResponse.success("일괄 발급 진행 조회 성공", bulkIssueService.getProgress(jobId));
+    }
+}
@@ -0,0 +1,15 @@
+package com.aion.back.coupon.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CouponBulkIssueRequest {
+    // 대상 회원 등급 (Member_Ranks.rank_id), 비우면 전체 활성 회원
+    private List<Long> rankIds;
+    // 이 쿠폰의 총 발급 상한 (이전 발급 / 개별 등록분 포함), 비우면 제한 없음
+    private Long issueLimit;
+}
@@ -0,0 +1,21 @@
+package com.aion.back.coupon.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class CouponBulkIssueResponse {
+    private Long jobId;
+    private Long couponId;
+    private String status;      // RUNNING, COMPLETED, LIMIT_REACHED, FAILED
+    private Long issueLimit;    // 총 발급 상한 (null이면 제한 없음)
+    private long scanned;       // 확인한 대상 회원 수
+    private long issued;        // 새로 발급한 수
+    private long skipped;       // 이미 가지고 있던 회원 수
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
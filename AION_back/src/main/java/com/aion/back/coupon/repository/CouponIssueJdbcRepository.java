@@ -0,0 +1,102 @@
+package com.aion.back.coupon.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 회원 쿠폰 발급 쓰기 쿼리 (UserCoupons는 이메일로 회원과 연결)
+ * 중복 발급은 NOT EXISTS로 거르고, coupon.issue.unique-index=true 이면
+ * (user_email, coupon_id) 유니크 인덱스 + ON CONFLICT DO NOTHING으로 동시 발급까지 막는다.
+ * (인덱스 없이 ON CONFLICT를 쓰면 Postgres가 문장 자체를 거부 → 인덱스 적용 전에는 끈 채로 배포)
+ */
+@Repository
+public class CouponIssueJdbcRepository {
+
+    private static final String ON_CONFLICT = "ON CONFLICT (user_email, coupon_id) DO NOTHING";
+
+    // %s: ON CONFLICT 절
+    private static final String ISSUE = """
+            INSERT INTO "UserCoupons" (user_email, coupon_id, is_used)
+            SELECT :email, :couponId, false
+             WHERE NOT EXISTS (SELECT 1 FROM "UserCoupons" uc
+                                WHERE uc.user_email = :email AND uc.coupon_id = :couponId)
+            %s
+            """;
+
+    private static final String COUNT_ISSUED = """
+            SELECT COUNT(*) FROM "UserCoupons" WHERE coupon_id = :couponId
+            """;
+
+    // user_id 키셋으로 대상 회원을 한 묶음 읽어 바로 INSERT (묶음당 왕복 1회, 발급은 최대 :maxIssue 명)
+    // %s: 등급 조건, ON CONFLICT 절
+    private static final String ISSUE_CHUNK = """
+            WITH targets AS (
+                SELECT u.user_id, u.email FROM "Users" u
+                 WHERE u.user_id > :afterUserId AND u.account_status = 'ACTIVE'%s
+                 ORDER BY u.user_id
+                 LIMIT :limit
+            ), issued AS (
+                INSERT INTO "UserCoupons" (user_email, coupon_id, is_used)
+                SELECT t.email, :couponId, false FROM targets t
+                 WHERE NOT EXISTS (SELECT 1 FROM "UserCoupons" uc
+                                    WHERE uc.user_email = t.email AND uc.coupon_id = :couponId)
+                 ORDER BY t.user_id
+                 LIMIT :maxIssue
+                %s
+                RETURNING 1
+            )
+            SELECT (SELECT MAX(user_id) FROM targets) AS last_user_id,
+                   (SELECT COUNT(*) FROM targets) AS scanned,
+                   (SELECT COUNT(*) FROM issued) AS issued
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String onConflict;
+
+    public CouponIssueJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                     @Value("${coupon.issue.unique-index:false}") boolean uniqueIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.onConflict = uniqueIndex ? ON_CONFLICT : "";
+    }
+
+    /** @return 새로 발급했으면 true, 이미 가지고 있으면 false */
+    public boolean issue(String email, Long couponId) {
+        return jdbcTemplate.update(ISSUE.formatted(onConflict), new MapSqlParameterSource()
+                .addValue("email", email)
+                .addValue("couponId", couponId)) == 1;
+    }
+
+    /** 쿠폰 보유 회원 수 (발급 상한 확인용) */
+    public long countIssued(Long couponId) {
+        Long count = jdbcTemplate.queryForObject(COUNT_ISSUED, new MapSqlParameterSource("couponId", couponId), Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * afterUserId 다음 활성 회원 최대 limit명을 확인해 그중 최대 maxIssue명에게 발급
+     * @param rankIds 대상 등급 (비어 있으면 전체 회원)
+     */
+    public ChunkResult issueChunk(Long couponId, long afterUserId, int limit, int maxIssue, List<Long> rankIds) {
+        boolean byRank = rankIds != null && !rankIds.isEmpty();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("couponId", couponId)
+                .addValue("afterUserId", afterUserId)
+                .addValue("limit", limit)
+                .addValue("maxIssue", maxIssue);
+        if (byRank) params.addValue("rankIds", rankIds);
+
+        return jdbcTemplate.queryForObject(
+                ISSUE_CHUNK.formatted(byRank ? " AND u.member_rank_id IN (:rankIds)" : "", onConflict), params,
+                (rs, i) -> new ChunkResult(
+                        rs.getLong("last_user_id"),
+                        rs.getInt("scanned"),
+                        rs.getInt("issued")));
+    }
+
+    /** 묶음 결과 (scanned가 0이면 더 이상 대상 없음) */
+    public record ChunkResult(long lastUserId, int scanned, int issued) {}
+}
@@ -0,0 +1,185 @@
+package com.aion.back.coupon.service;
+
+import com.aion.back.coupon.dto.response.CouponBulkIssueResponse;
+import com.aion.back.coupon.entity.Coupon;
+import com.aion.back.coupon.repository.CouponIssueJdbcRepository;
+import com.aion.back.coupon.repository.CouponIssueJdbcRepository.ChunkResult;
+import com.aion.back.coupon.repository.CouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿠폰 일괄 발급 (등급별 / 전체 회원)
+ *
+ * 대상 회원을 user_id 순으로 coupon.bulk-issue.batch-size 명씩 읽어 바로 INSERT 하고,
+ * 진행 상황은 작업 ID로 조회한다. 묶음마다 커밋되며 이미 가진 회원은 건너뛰므로
+ * 중간에 실패해도 같은 요청을 다시 보내면 남은 회원에게만 발급된다.
+ * 요청의 issueLimit(쿠폰 총 발급 상한)이 있으면 묶음마다 현재 발급 수를 세어 남은 수량만큼만 발급하고 LIMIT_REACHED로 끝낸다.
+ * (Coupons.usage_limit은 쿠폰 한 장의 사용 가능 횟수라 발급 상한으로 쓰지 않음)
+ */
+@Slf4j
+@Service
+public class CouponBulkIssueService {
+
+    // 끝난 작업 조회 가능 시간
+    private static final long JOB_RETENTION_HOURS = 24;
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueJdbcRepository issueRepository;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final Counter issuedCounter;
+
+    private final AtomicLong jobSeq = new AtomicLong();
+    private final Map<Long, Job> jobs = new ConcurrentHashMap<>();
+
+    public CouponBulkIssueService(CouponRepository couponRepository,
+                                  CouponIssueJdbcRepository issueRepository,
+                                  @Value("${coupon.bulk-issue.batch-size:5000}") int batchSize,
+                                  @Value("${coupon.bulk-issue.threads:2}") int threads,
+                                  MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.issueRepository = issueRepository;
+        this.batchSize = batchSize;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "coupon-bulk-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.issuedCounter = Counter.builder("coupon.bulk.issued").register(meterRegistry);
+    }
+
+    /** @param issueLimit 쿠폰 총 발급 상한 (null이면 제한 없음) */
+    public CouponBulkIssueResponse start(Long couponId, List<Long> rankIds, Long issueLimit) {
+        if (issueLimit != null && issueLimit <= 0) {
+            throw new RuntimeException("발급 상한은 1 이상이어야 합니다.");
+        }
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new RuntimeException("쿠폰을 찾을 수 없습니다."));
+        if (coupon.getExpiryDate() != null && coupon.getExpiryDate().isBefore(LocalDateTime.now())) {
+            throw new RuntimeException("만료된 쿠폰입니다.");
+        }
+
+        pruneFinishedJobs();
+        Job job = new Job(jobSeq.incrementAndGet(), couponId, issueLimit);
+        synchronized (jobs) {
+            // 같은 쿠폰을 동시에 돌리면 같은 회원들을 두 작업이 나눠 훑기만 함
+            boolean running = jobs.values().stream()
+                    .anyMatch(j -> j.couponId.equals(couponId) && "RUNNING".equals(j.status));
+            if (running) {
+                throw new RuntimeException("이미 일괄 발급이 진행 중인 쿠폰입니다.");
+            }
+            jobs.put(job.jobId, job);
+        }
+        executor.execute(() -> run(job, rankIds));
+        return job.toResponse();
+    }
+
+    public CouponBulkIssueResponse getProgress(Long jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("일괄 발급 작업을 찾을 수 없습니다.");
+        }
+        return job.toResponse();
+    }
+
+    private void run(Job job, List<Long> rankIds) {
+        try {
+            long afterUserId = 0;
+
+            while (true) {
+                long remaining = Long.MAX_VALUE;
+                if (job.issueLimit != null) {
+                    remaining = job.issueLimit - issueRepository.countIssued(job.couponId);
+                    if (remaining <= 0) {
+                        job.finish("LIMIT_REACHED", null);
+                        log.info("쿠폰 일괄 발급 상한 도달 - 작업: {}, 쿠폰: {}, 상한: {}, 발급: {}",
+                                job.jobId, job.couponId, job.issueLimit, job.issued.get());
+                        return;
+                    }
+                }
+
+                ChunkResult chunk = issueRepository.issueChunk(job.couponId, afterUserId, batchSize,
+                        (int) Math.min(remaining, batchSize), rankIds);
+                if (chunk.scanned() == 0) break;
+
+                afterUserId = chunk.lastUserId();
+                job.scanned.addAndGet(chunk.scanned());
+                job.issued.addAndGet(chunk.issued());
+                issuedCounter.increment(chunk.issued());
+                log.info("쿠폰 일괄 발급 진행 - 작업: {}, 쿠폰: {}, 확인: {}, 발급: {}",
+                        job.jobId, job.couponId, job.scanned.get(), job.issued.get());
+            }
+            job.finish("COMPLETED", null);
+        } catch (Exception e) {
+            log.warn("쿠폰 일괄 발급 실패 - 작업: {}, 쿠폰: {}, 사유: {}", job.jobId, job.couponId, e.getMessage());
+            job.finish("FAILED", e.getMessage());
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(JOB_RETENTION_HOURS);
+        jobs.values().removeIf(j -> j.finishedAt != null && j.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** 진행 상황 (작업 스레드가 갱신, 조회 스레드가 읽음) */
+    private static class Job {
+        final Long jobId;
+        final Long couponId;
+        final Long issueLimit;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicLong scanned = new AtomicLong();
+        final AtomicLong issued = new AtomicLong();
+        volatile String status = "RUNNING";
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+
+        Job(Long jobId, Long couponId, Long issueLimit) {
+            this.jobId = jobId;
+            this.couponId = couponId;
+            this.issueLimit = issueLimit;
+        }
+
+        void finish(String status, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        CouponBulkIssueResponse toResponse() {
+            long issuedCount = issued.get();
+            long scannedCount = scanned.get();
+            return CouponBulkIssueResponse.builder()
+                    .jobId(jobId)
+                    .couponId(couponId)
+                    .status(status)
+                    .issueLimit(issueLimit)
+                    .scanned(scannedCount)
+                    .issued(issuedCount)
+                    .skipped(scannedCount - issuedCount)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.aion.back.coupon.service;
+
+import com.aion.back.coupon.repository.CouponIssueJdbcRepository;
+import com.aion.back.outbox.service.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 지급 (아웃박스)
+ * 이벤트 당첨 등 요청 트랜잭션에서는 적재만 하고 UserCoupons INSERT는 커밋 후 여기서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponGrantHandler implements OutboxHandler<CouponGrantHandler.Payload> {
+
+    public static final String TYPE = "COUPON_GRANT";
+
+    private final CouponIssueJdbcRepository couponIssueRepository;
+
+    public record Payload(String email, Long couponId) {}
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public Class<Payload> payloadType() {
+        return Payload.class;
+    }
+
+    @Override
+    public void handle(Payload payload) {
+        couponIssueRepository.issue(payload.email(), payload.couponId());
+    }
+}
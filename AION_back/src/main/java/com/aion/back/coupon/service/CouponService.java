@@ -1,9 +1,11 @@
 package com.aion.back.coupon.service;
 
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.coupon.dto.request.CouponCreateRequest;
 import com.aion.back.coupon.dto.response.UserCouponResponse;
 import com.aion.back.coupon.entity.Coupon;
 import com.aion.back.coupon.entity.UserCoupon;
+import com.aion.back.coupon.repository.CouponIssueJdbcRepository;
 import com.aion.back.coupon.repository.CouponRepository;
 import com.aion.back.coupon.repository.UserCouponRepository;
 import com.aion.back.member.entity.Member;
@@ -24,6 +26,7 @@ public class CouponService {
     private final MemberService memberService;
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
+    private final CouponIssueJdbcRepository couponIssueRepository;
 
     public List<UserCouponResponse> getMyCoupons(String token) {
         Member member = memberService.getMemberEntityByToken(token);
@@ -58,7 +61,7 @@ public class CouponService {
 
     @Transactional
     public void registerCoupon(String token, String couponCode) {
-        Member member = memberService.getMemberEntityByToken(token);
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
 
         Coupon coupon = couponRepository.findByCode(couponCode)
                 .orElseThrow(() -> new RuntimeException("유효하지 않은 쿠폰 코드입니다."));
@@ -67,21 +70,9 @@ public class CouponService {
             throw new RuntimeException("만료된 쿠폰입니다.");
         }
 
-        List<UserCoupon> existingCoupons = userCouponRepository.findByMember(member);
-        boolean alreadyRegistered = existingCoupons.stream()
-                .filter(uc -> uc.getCoupon() != null)
-                .anyMatch(uc -> uc.getCoupon().getId().equals(coupon.getId()));
-
-        if (alreadyRegistered) {
+        // 중복 확인과 발급을 한 문장에 (보유 쿠폰 전체 조회 없음)
+        if (!couponIssueRepository.issue(principal.email(), coupon.getId())) {
             throw new RuntimeException("이미 등록된 쿠폰입니다.");
         }
-
-        UserCoupon userCoupon = UserCoupon.builder()
-                .member(member)
-                .coupon(coupon)
-                .isUsed(false)
-                .build();
-
-        userCouponRepository.save(userCoupon);
     }
 }
\ No newline at end of file
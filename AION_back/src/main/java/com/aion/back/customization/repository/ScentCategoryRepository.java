@@ -17,4 +17,7 @@ public interface ScentCategoryRepository extends JpaRepository<ScentCategory, Lo
         ORDER BY sc.displayOrder ASC, i.displayOrder ASC
     """)
     List<ScentCategory> findActiveWithIngredients();
+
+    // 재료 없이 카테고리 이름만 필요할 때 (AI 조향 재료 매칭 스냅샷)
+    List<ScentCategory> findByIsActiveTrue();
 }
\ No newline at end of file
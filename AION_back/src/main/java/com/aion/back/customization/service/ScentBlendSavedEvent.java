@@ -0,0 +1,12 @@
+package com.aion.back.customization.service;
+
+import java.util.List;
+
+/**
+ * 향 조합 저장 이벤트
+ * 커밋 이후 향료 사용 통계 집계에 사용
+ */
+public record ScentBlendSavedEvent(List<Item> items) {
+
+    public record Item(Long ingredientId, double ratio) {}
+}
@@ -11,6 +11,7 @@ import com.aion.back.customization.repository.ScentCategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ public class ScentBlendService {
 
     private final ScentCategoryRepository categoryRepository;
     private final CustomScentBlendRepository blendRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Cacheable(value = "scentCategories")
     public List<ScentCategoryWithIngredientsResponse> getScentCategoriesWithIngredients() {
@@ -63,7 +65,12 @@ public class ScentBlendService {
             }
         }
 
-        return CustomScentBlendResponse.from(blendRepository.save(blend));
+        CustomScentBlend saved = blendRepository.save(blend);
+        eventPublisher.publishEvent(new ScentBlendSavedEvent(saved.getItems().stream()
+                .filter(item -> item.getRatio() != null)
+                .map(item -> new ScentBlendSavedEvent.Item(item.getIngredientId(), item.getRatio()))
+                .toList()));
+        return CustomScentBlendResponse.from(saved);
     }
 
     @Transactional
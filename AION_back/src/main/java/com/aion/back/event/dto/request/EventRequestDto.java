@@ -14,6 +14,7 @@ public class EventRequestDto {
     private String couponCode;
     private Integer pointAmount;
     private Integer maxParticipants;
+    private Integer maxWinners;
     private Boolean priorityBuyers;
     private Double winProbability;
 }
\ No newline at end of file
@@ -44,6 +44,21 @@ public class Event {
     @Column(name = "max_participants")
     private Integer maxParticipants;
 
+    // 당첨 인원 한도 (null이면 확률만 적용)
+    @Column(name = "max_winners")
+    private Integer maxWinners;
+
+    // 이벤트 생성/수정 시 coupon_code로 미리 찾아 둔 경품 쿠폰
+    @Column(name = "prize_coupon_id")
+    private Long prizeCouponId;
+
+    // 응모 / 당첨 카운터는 EventDrawEngine이 조건부 UPDATE로만 올린다. (엔티티 저장으로 덮어쓰지 않음)
+    @Column(name = "participant_count", insertable = false, updatable = false)
+    private Integer participantCount;
+
+    @Column(name = "winner_count", insertable = false, updatable = false)
+    private Integer winnerCount;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 }
\ No newline at end of file
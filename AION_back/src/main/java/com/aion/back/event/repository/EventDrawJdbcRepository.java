@@ -0,0 +1,109 @@
+package com.aion.back.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 이벤트 응모 / 추첨 쿼리
+ *
+ * - 중복 응모는 (event_id, user_email) 유니크 인덱스 + ON CONFLICT DO NOTHING으로 막는다.
+ * - 정원 / 당첨 한도는 Events 행을 잠근 상태에서 한 문장으로 확인하고 올린다. → 초과 불가
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventDrawJdbcRepository {
+
+    private static final String FIND_CONFIG = """
+            SELECT id, event_type, start_date, end_date, win_probability, prize_coupon_id
+              FROM "Events" WHERE id = :eventId
+            """;
+
+    private static final String INSERT_PARTICIPATION = """
+            INSERT INTO "EventParticipations" (event_id, user_email, won, participated_at)
+            VALUES (:eventId, :email, false, NOW())
+            ON CONFLICT (event_id, user_email) DO NOTHING
+            RETURNING id
+            """;
+
+    // 정원이 남아 있으면 응모 수 +1, 추첨에 뽑혔고 당첨 한도도 남아 있으면 당첨 수 +1
+    // 행이 없으면 정원 마감, won은 실제 당첨 여부 (한도 초과 시 false)
+    private static final String RESERVE_SLOT = """
+            WITH e AS (
+                SELECT id, participant_count, winner_count, max_participants, max_winners
+                  FROM "Events" WHERE id = :eventId
+                   FOR UPDATE
+            ), granted AS (
+                SELECT e.*, (:drawn AND (e.max_winners IS NULL OR e.winner_count < e.max_winners)) AS won
+                  FROM e
+                 WHERE e.max_participants IS NULL OR e.participant_count < e.max_participants
+            )
+            UPDATE "Events" t
+               SET participant_count = g.participant_count + 1,
+                   winner_count = g.winner_count + CASE WHEN g.won THEN 1 ELSE 0 END
+              FROM granted g
+             WHERE t.id = g.id
+            RETURNING g.won
+            """;
+
+    private static final String MARK_WON = """
+            UPDATE "EventParticipations" SET won = true WHERE id = :participationId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<DrawConfig> findConfig(Long eventId) {
+        List<DrawConfig> rows = jdbcTemplate.query(FIND_CONFIG, new MapSqlParameterSource("eventId", eventId),
+                (rs, i) -> new DrawConfig(
+                        rs.getLong("id"),
+                        rs.getString("event_type"),
+                        rs.getObject("start_date", LocalDate.class),
+                        rs.getObject("end_date", LocalDate.class),
+                        nullableDouble(rs, "win_probability"),
+                        nullableLong(rs, "prize_coupon_id")));
+        return rows.stream().findFirst();
+    }
+
+    // 컬럼 타입(numeric / real / double, int / bigint)과 무관하게 읽기
+    private static Double nullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Long nullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /** 응모 기록. 이미 응모했으면 empty */
+    public OptionalLong insertParticipation(Long eventId, String email) {
+        List<Long> ids = jdbcTemplate.queryForList(INSERT_PARTICIPATION, new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("email", email), Long.class);
+        return ids.isEmpty() ? OptionalLong.empty() : OptionalLong.of(ids.get(0));
+    }
+
+    /** 정원 확보 + 당첨 확정. 정원이 찼으면 empty */
+    public Optional<Boolean> reserveSlot(Long eventId, boolean drawn) {
+        List<Boolean> rows = jdbcTemplate.queryForList(RESERVE_SLOT, new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("drawn", drawn), Boolean.class);
+        return rows.stream().findFirst();
+    }
+
+    public void markWon(Long participationId) {
+        jdbcTemplate.update(MARK_WON, new MapSqlParameterSource("participationId", participationId));
+    }
+
+    /** 추첨에 필요한 이벤트 설정 (응모 요청마다 Events를 다시 읽지 않도록 캐시) */
+    public record DrawConfig(Long eventId, String eventType, LocalDate startDate, LocalDate endDate,
+                             Double winProbability, Long prizeCouponId) {}
+}
@@ -0,0 +1,130 @@
+package com.aion.back.event.service;
+
+import com.aion.back.coupon.service.CouponGrantHandler;
+import com.aion.back.event.repository.EventDrawJdbcRepository;
+import com.aion.back.event.repository.EventDrawJdbcRepository.DrawConfig;
+import com.aion.back.outbox.service.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 응모 / 추첨
+ *
+ * 응모 한 건 = 유니크 INSERT(중복 차단) + Events 행 조건부 UPDATE(정원·당첨 한도 확인과 증가) 두 문장.
+ * 이벤트 설정은 메모리에 캐시하고, 정원이 찬 이벤트는 DB까지 가지 않고 바로 거절한다.
+ * 난수는 스레드별 SplittableRandom (event.draw.seed 지정 시 재현 가능)
+ */
+@Slf4j
+@Component
+public class EventDrawEngine {
+
+    private final EventDrawJdbcRepository drawRepository;
+    private final OutboxService outboxService;
+
+    private final Map<Long, DrawConfig> configs = new ConcurrentHashMap<>();
+    private final Set<Long> closedEvents = ConcurrentHashMap.newKeySet();
+
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> random;
+
+    public EventDrawEngine(EventDrawJdbcRepository drawRepository,
+                           OutboxService outboxService,
+                           @Value("${event.draw.seed:#{null}}") Long seed) {
+        this.drawRepository = drawRepository;
+        this.outboxService = outboxService;
+        this.root = seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+        this.random = ThreadLocal.withInitial(this::splitRoot);
+    }
+
+    /**
+     * @return 당첨 여부
+     */
+    @Transactional
+    public boolean draw(Long eventId, Long userId, String email) {
+        DrawConfig config = config(eventId);
+
+        LocalDate today = LocalDate.now();
+        if (config.startDate() != null && today.isBefore(config.startDate())) {
+            throw new RuntimeException("아직 시작되지 않은 이벤트입니다.");
+        }
+        if (config.endDate() != null && today.isAfter(config.endDate())) {
+            throw new RuntimeException("종료된 이벤트입니다.");
+        }
+        if (closedEvents.contains(eventId)) {
+            throw new RuntimeException("참여 인원이 마감되었습니다.");
+        }
+
+        OptionalLong participationId = drawRepository.insertParticipation(eventId, email);
+        if (participationId.isEmpty()) {
+            throw new RuntimeException("이미 참여한 이벤트입니다.");
+        }
+
+        // 확률 추첨은 잠금 밖에서, 당첨 한도 확인은 UPDATE 안에서
+        boolean drawn = config.winProbability() != null
+                && random.get().nextDouble(100) < config.winProbability();
+
+        // 정원 마감이면 예외 → 위에서 넣은 참여 기록도 롤백
+        boolean won = drawRepository.reserveSlot(eventId, drawn).orElseThrow(() -> {
+            closedEvents.add(eventId);
+            return new RuntimeException("참여 인원이 마감되었습니다.");
+        });
+        if (!won) return false;
+
+        drawRepository.markWon(participationId.getAsLong());
+        if ("COUPON".equals(config.eventType()) && config.prizeCouponId() != null) {
+            // 쿠폰 지급은 아웃박스로 (참여 기록과 같이 커밋되고, 지급 자체는 요청 경로 밖에서)
+            outboxService.enqueue(CouponGrantHandler.TYPE,
+                    OutboxService.memberKey(userId),
+                    "event-coupon:" + eventId + ":" + userId,
+                    new CouponGrantHandler.Payload(email, config.prizeCouponId()));
+        }
+        return true;
+    }
+
+    /**
+     * 이벤트 수정 / 삭제 시 캐시된 설정과 마감 표시를 버린다.
+     * 지금 바로, 그리고 진행 중인 트랜잭션이 있으면 커밋 후 한 번 더 (커밋 전에 들어온 응모가 옛 설정을 다시 캐시하지 않도록)
+     */
+    public void evictAfterCommit(Long eventId) {
+        evict(eventId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(eventId);
+                }
+            });
+        }
+    }
+
+    private void evict(Long eventId) {
+        configs.remove(eventId);
+        closedEvents.remove(eventId);
+    }
+
+    private DrawConfig config(Long eventId) {
+        DrawConfig cached = configs.get(eventId);
+        if (cached != null) return cached;
+        DrawConfig loaded = drawRepository.findConfig(eventId)
+                .orElseThrow(() -> new RuntimeException("이벤트를 찾을 수 없습니다."));
+        configs.put(eventId, loaded);
+        return loaded;
+    }
+
+    private SplittableRandom splitRoot() {
+        synchronized (root) {
+            return root.split();
+        }
+    }
+}
@@ -3,15 +3,13 @@ package com.aion.back.event.service;
 import com.aion.back.event.dto.response.EventParticipationResponseDto;
 import com.aion.back.event.dto.request.EventRequestDto;
 import com.aion.back.event.entity.Event;
-import com.aion.back.event.entity.EventParticipation;
 import com.aion.back.event.repository.EventParticipationRepository;
 import com.aion.back.event.repository.EventRepository;
 import com.aion.back.member.entity.Member;
 import com.aion.back.member.service.MemberService;
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.coupon.entity.Coupon;
-import com.aion.back.coupon.entity.UserCoupon;
 import com.aion.back.coupon.repository.CouponRepository;
-import com.aion.back.coupon.repository.UserCouponRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -30,41 +28,12 @@ public class EventService {
     private final EventRepository eventRepository;
     private final EventParticipationRepository participationRepository;
     private final CouponRepository couponRepository;
-    private final UserCouponRepository userCouponRepository;
+    private final EventDrawEngine drawEngine;
 
-    @Transactional
     public EventParticipationResponseDto participate(String token, Long eventId) {
-        Member member = memberService.getMemberEntityByToken(token);
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("이벤트를 찾을 수 없습니다."));
-
-        if (participationRepository.existsByMemberAndEvent(member, event)) {
-            throw new RuntimeException("이미 참여한 이벤트입니다.");
-        }
-
-        double randomValue = Math.random() * 100;
-        boolean isWon = randomValue < event.getWinProbability();
-
-        EventParticipation participation = EventParticipation.builder()
-                .member(member)
-                .event(event)
-                .won(isWon)
-                .participatedAt(LocalDateTime.now())
-                .build();
-        participationRepository.save(participation);
-
-        if (isWon && "COUPON".equals(event.getEventType()) && event.getCouponCode() != null) {
-            Coupon coupon = couponRepository.findByCode(event.getCouponCode())
-                    .orElseThrow(() -> new RuntimeException("해당 쿠폰 코드가 존재하지 않습니다."));
-
-            UserCoupon userCoupon = UserCoupon.builder()
-                    .member(member)
-                    .coupon(coupon)
-                    .isUsed(false)
-                    .build();
-            userCouponRepository.save(userCoupon);
-        }
-        return EventParticipationResponseDto.builder().won(isWon).build();
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        boolean won = drawEngine.draw(eventId, principal.userId(), principal.email());
+        return EventParticipationResponseDto.builder().won(won).build();
     }
 
     public List<Map<String, Object>> getMyParticipations(String token) {
@@ -96,6 +65,8 @@ public class EventService {
                 .couponCode(dto.getCouponCode())
                 .pointAmount(dto.getPointAmount())
                 .maxParticipants(dto.getMaxParticipants())
+                .maxWinners(dto.getMaxWinners())
+                .prizeCouponId(resolvePrizeCoupon(dto))
                 .priorityBuyers(dto.getPriorityBuyers())
                 .winProbability(dto.getWinProbability())
                 .createdAt(LocalDateTime.now())
@@ -117,14 +88,26 @@ public class EventService {
         event.setCouponCode(dto.getCouponCode());
         event.setPointAmount(dto.getPointAmount());
         event.setMaxParticipants(dto.getMaxParticipants());
+        event.setMaxWinners(dto.getMaxWinners());
+        event.setPrizeCouponId(resolvePrizeCoupon(dto));
         event.setPriorityBuyers(dto.getPriorityBuyers());
         event.setWinProbability(dto.getWinProbability());
 
+        drawEngine.evictAfterCommit(id);
         return event;
     }
 
     @Transactional
     public void deleteEvent(Long id) {
         eventRepository.deleteById(id);
+        drawEngine.evictAfterCommit(id);
+    }
+
+    // 당첨 시 쿠폰 조회를 하지 않도록 생성/수정 시점에 쿠폰을 찾아 둔다.
+    private Long resolvePrizeCoupon(EventRequestDto dto) {
+        if (!"COUPON".equals(dto.getEventType()) || dto.getCouponCode() == null) return null;
+        return couponRepository.findByCode(dto.getCouponCode())
+                .map(Coupon::getId)
+                .orElseThrow(() -> new RuntimeException("해당 쿠폰 코드가 존재하지 않습니다."));
     }
 }
\ No newline at end of file
@@ -1,19 +1,31 @@
 package com.aion.back.inquiry.controller;
 
+import com.aion.back.common.export.NdjsonExporter;
+import com.aion.back.common.pagination.CursorPage;
+import com.aion.back.common.pagination.KeysetCursor;
 import com.aion.back.common.response.ApiResponse;
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.inquiry.dto.InquiryRequestDto;
 import com.aion.back.inquiry.entity.Inquiry;
 import com.aion.back.inquiry.repository.InquiryRepository;
 import com.aion.back.inquiry.dto.InquiryResponseDto;
+import com.aion.back.inquiry.service.InquiryQueueService;
 import com.aion.back.member.entity.Member;
 import com.aion.back.member.repository.MemberRepository;
 import com.aion.back.member.service.MemberService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -24,10 +36,26 @@ public class InquiryController {
     private final MemberService memberService;
     private final InquiryRepository inquiryRepository;
     private final MemberRepository memberRepository;
+    private final NdjsonExporter ndjsonExporter;
+    private final InquiryQueueService inquiryQueueService;
+
+    // InquiryResponseDto와 같은 필드로 DB에서 JSON 한 줄씩 생성
+    private static final String EXPORT_MY_INQUIRIES = """
+            SELECT json_build_object(
+                       'inquiryId', q.inquiry_id, 'customerId', q.user_id, 'type', q.type, 'title', q.title,
+                       'content', q.content, 'customerName', q.customer_name, 'customerEmail', q.customer_email,
+                       'warningCount', COALESCE(u.warning_count, 0), 'warningLevel', COALESCE(u.warning_level, 'normal'),
+                       'status', q.status, 'read', q.is_read, 'answer', q.answer, 'assignedTo', q.assigned_to,
+                       'createdAt', q.created_at)::text
+              FROM "Inquiries" q
+              JOIN "Users" u ON u.user_id = q.user_id
+             WHERE q.user_id = :userId
+             ORDER BY q.created_at DESC, q.inquiry_id DESC
+            """;
 
     @GetMapping("/my")
     public ApiResponse<List<InquiryResponseDto>> getMyInquiries(@RequestHeader("Authorization") String token) {
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
         List<Inquiry> inquiries = inquiryRepository.findByMemberOrderByCreatedAtDesc(member);
 
         List<InquiryResponseDto> dtos = inquiries.stream()
@@ -37,6 +65,33 @@ public class InquiryController {
         return ApiResponse.success("문의 내역 조회 성공", dtos);
     }
 
+    @GetMapping("/my/page")
+    @Transactional
+    public ApiResponse<CursorPage<InquiryResponseDto>> getMyInquiriesPage(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        int limit = CursorPage.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Inquiry> rows = after == null
+                ? inquiryRepository.findLatestByUserId(principal.userId(), limit + 1)
+                : inquiryRepository.findOlderByUserId(principal.userId(), after.createdAt(), after.id(), limit + 1);
+
+        CursorPage<InquiryResponseDto> page = CursorPage.of(rows, limit,
+                q -> new KeysetCursor(q.getCreatedAt(), q.getInquiryId()), InquiryResponseDto::from);
+        return ApiResponse.success("문의 내역 조회 성공", page);
+    }
+
+    @GetMapping("/my/export")
+    public ResponseEntity<StreamingResponseBody> exportMyInquiries(@RequestHeader("Authorization") String token) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        return ResponseEntity.ok()
+                .contentType(NdjsonExporter.NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"inquiries.ndjson\"")
+                .body(ndjsonExporter.stream(EXPORT_MY_INQUIRIES, new MapSqlParameterSource("userId", principal.userId())));
+    }
+
     @PostMapping
     @Transactional
     public ApiResponse<String> createdInquiry(@RequestHeader("Authorization") String token, @RequestBody InquiryRequestDto request) {
@@ -54,16 +109,17 @@ public class InquiryController {
                 .build();
 
         inquiryRepository.save(inquiry);
+        inquiryQueueService.evictStatusCounts();
         return ApiResponse.success("문의가 성공적으로 등록되었습니다.");
     }
 
     @PatchMapping("/{id}/read")
     @Transactional
     public ApiResponse<String> markAsRead(@RequestHeader("Authorization") String token, @PathVariable Long id) {
-        Member member = memberService.getMemberEntityByToken(token);
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
         Inquiry inquiry = inquiryRepository.findById(id).orElseThrow(() -> new RuntimeException("문의를 찾을 수 없습니다."));
 
-        if (!inquiry.getMember().getUserId().equals(member.getUserId())) {
+        if (!inquiry.getMember().getUserId().equals(principal.userId())) {
             throw new RuntimeException("본인의 문의만 수정할 수 있습니다.");
         }
 
@@ -75,15 +131,16 @@ public class InquiryController {
     @Transactional
     public ApiResponse<String> cancelInquiry(@RequestHeader("Authorization") String token,
                                              @PathVariable Long id) {
-        Member member = memberService.getMemberEntityByToken(token);
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
         Inquiry inquiry = inquiryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("문의를 찾을 수 없습니다."));
 
-        if (!inquiry.getMember().getUserId().equals(member.getUserId())) {
+        if (!inquiry.getMember().getUserId().equals(principal.userId())) {
             throw new RuntimeException("본인의 문의만 취소할 수 있습니다.");
         }
 
         inquiry.setStatus("cancelled");
+        inquiryQueueService.evictStatusCounts();
         return ApiResponse.success("문의가 취소되었습니다.");
     }
 
@@ -91,23 +148,24 @@ public class InquiryController {
     @Transactional
     public ApiResponse<String> deleteInquiry(@RequestHeader("Authorization") String token,
                                              @PathVariable Long id) {
-        Member member = memberService.getMemberEntityByToken(token);
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
         Inquiry inquiry = inquiryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("문의를 찾을 수 없습니다."));
 
-        if (!inquiry.getMember().getUserId().equals(member.getUserId())) {
+        if (!inquiry.getMember().getUserId().equals(principal.userId())) {
             throw new RuntimeException("본인의 문의만 삭제할 수 있습니다.");
         }
 
         inquiryRepository.delete(inquiry);
+        inquiryQueueService.evictStatusCounts();
         return ApiResponse.success("문의가 삭제되었습니다.");
     }
 
     @GetMapping("/admin/all")
     public ApiResponse<List<InquiryResponseDto>> getAllInquiries(@RequestHeader("Authorization") String token) {
-        Member member = memberService.getMemberEntityByToken(token);
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
 
-        if (!"ADMIN".equals(member.getRole())) {
+        if (!"ADMIN".equals(principal.role())) {
             throw new RuntimeException("관리자 권한이 없습니다. 접근이 거부되었습니다.");
         }
 
@@ -122,6 +180,37 @@ public class InquiryController {
         return ApiResponse.success("전체 문의 조회 성공", dtos);
     }
 
+    /**
+     * 관리자 문의 큐 (상태 / 접수일 / 회원 필터, 최신순 키셋 페이지)
+     * cursor는 이전 응답의 nextCursor, 첫 페이지는 null
+     */
+    @GetMapping("/admin/queue")
+    public ApiResponse<CursorPage<InquiryResponseDto>> getInquiryQueue(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equals(principal.role())) {
+            throw new RuntimeException("관리자 권한이 없습니다. 접근이 거부되었습니다.");
+        }
+
+        CursorPage<InquiryResponseDto> page = inquiryQueueService.getQueue(status, from, to, memberId, cursor, size);
+        return ApiResponse.success("문의 큐 조회 성공", page);
+    }
+
+    @GetMapping("/admin/status-counts")
+    public ApiResponse<Map<String, Long>> getStatusCounts(@RequestHeader("Authorization") String token) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equals(principal.role())) {
+            throw new RuntimeException("관리자 권한이 없습니다. 접근이 거부되었습니다.");
+        }
+        return ApiResponse.success("문의 상태별 건수 조회 성공", inquiryQueueService.getStatusCounts());
+    }
+
     @PatchMapping("/admin/{id}/answer")
     @Transactional
     public ApiResponse<String> answerInquiry(@RequestHeader("Authorization") String token,
@@ -140,6 +229,7 @@ public class InquiryController {
         inquiry.setAssignedTo(admin.getName());
         inquiry.setStatus("completed");
         inquiry.setRead(false);
+        inquiryQueueService.evictStatusCounts();
 
         return ApiResponse.success("답변이 등록되었습니다.");
     }
@@ -148,8 +238,8 @@ public class InquiryController {
     @Transactional
     public ApiResponse<String> addWarning(@RequestHeader("Authorization") String token,
                                           @PathVariable Long userId) {
-        Member admin = memberService.getMemberEntityByToken(token);
-        if (!"ADMIN".equals(admin.getRole())) {
+        AuthPrincipal admin = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equals(admin.role())) {
             throw new RuntimeException("관리자 권한이 없습니다.");
         }
 
@@ -167,8 +257,8 @@ public class InquiryController {
     @Transactional
     public ApiResponse<String> reduceWarning(@RequestHeader("Authorization") String token,
                                              @PathVariable Long userId) {
-        Member admin = memberService.getMemberEntityByToken(token);
-        if (!"ADMIN".equals(admin.getRole())) {
+        AuthPrincipal admin = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equals(admin.role())) {
             throw new RuntimeException("관리자 권한이 없습니다.");
         }
 
@@ -186,8 +276,8 @@ public class InquiryController {
     @Transactional
     public ApiResponse<String> removeBlacklist(@RequestHeader("Authorization") String token,
                                                @PathVariable Long userId) {
-        Member admin = memberService.getMemberEntityByToken(token);
-        if (!"ADMIN".equals(admin.getRole())) {
+        AuthPrincipal admin = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equals(admin.role())) {
             throw new RuntimeException("관리자 권한이 없습니다.");
         }
 
@@ -0,0 +1,98 @@
+package com.aion.back.inquiry.repository;
+
+import com.aion.back.common.pagination.KeysetCursor;
+import com.aion.back.inquiry.dto.InquiryResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 문의 큐 조회 쿼리
+ *
+ * 넘어온 조건만 WHERE에 붙이고 (created_at, inquiry_id) 키셋으로 최신순 한 페이지만 읽는다.
+ * 회원 경고 정보는 같은 쿼리에서 JOIN (행마다 회원 지연 로딩 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class InquiryQueueJdbcRepository {
+
+    private static final String SELECT_QUEUE = """
+            SELECT q.inquiry_id, q.user_id, q.type, q.title, q.content, q.customer_name, q.customer_email,
+                   q.status, q.is_read, q.answer, q.assigned_to, q.created_at,
+                   u.warning_count, u.warning_level
+              FROM "Inquiries" q
+              JOIN "Users" u ON u.user_id = q.user_id
+             WHERE TRUE
+            """;
+
+    private static final String COUNT_BY_STATUS = """
+            SELECT status, COUNT(*) AS cnt FROM "Inquiries" GROUP BY status ORDER BY status
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param from / to 접수일 범위 (둘 다 포함, null이면 제한 없음)
+     * @param after     이전 페이지 마지막 행 (null이면 첫 페이지)
+     */
+    public List<InquiryResponseDto> findQueue(String status, LocalDate from, LocalDate to, Long memberId,
+                                              KeysetCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_QUEUE);
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+
+        if (status != null && !status.isBlank()) {
+            sql.append(" AND q.status = :status");
+            params.addValue("status", status);
+        }
+        if (from != null) {
+            sql.append(" AND q.created_at >= :from");
+            params.addValue("from", from.atStartOfDay());
+        }
+        if (to != null) {
+            sql.append(" AND q.created_at < :to");
+            params.addValue("to", to.plusDays(1).atStartOfDay());
+        }
+        if (memberId != null) {
+            sql.append(" AND q.user_id = :memberId");
+            params.addValue("memberId", memberId);
+        }
+        if (after != null) {
+            sql.append(" AND (q.created_at, q.inquiry_id) < (:cursorCreatedAt, :cursorId)");
+            params.addValue("cursorCreatedAt", after.createdAt()).addValue("cursorId", after.id());
+        }
+        sql.append(" ORDER BY q.created_at DESC, q.inquiry_id DESC LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, i) -> InquiryResponseDto.builder()
+                .inquiryId(rs.getLong("inquiry_id"))
+                .customerId(rs.getLong("user_id"))
+                .type(rs.getString("type"))
+                .title(rs.getString("title"))
+                .content(rs.getString("content"))
+                .customerName(rs.getString("customer_name"))
+                .customerEmail(rs.getString("customer_email"))
+                .warningCount(rs.getObject("warning_count") != null ? rs.getInt("warning_count") : 0)
+                .warningLevel(rs.getString("warning_level") != null ? rs.getString("warning_level") : "normal")
+                .status(rs.getString("status"))
+                .read(rs.getBoolean("is_read"))
+                .answer(rs.getString("answer"))
+                .assignedTo(rs.getString("assigned_to"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .build());
+    }
+
+    /** 상태별 문의 수 (status 인덱스만 읽음) */
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(COUNT_BY_STATUS, rs -> {
+            counts.put(rs.getString("status"), rs.getLong("cnt"));
+        });
+        return counts;
+    }
+}
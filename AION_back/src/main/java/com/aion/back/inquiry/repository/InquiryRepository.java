@@ -3,9 +3,25 @@ package com.aion.back.inquiry.repository;
 import com.aion.back.inquiry.entity.Inquiry;
 import com.aion.back.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     List<Inquiry> findByMemberOrderByCreatedAtDesc(Member member);
+
+    // 키셋 페이지 (created_at, inquiry_id) 최신순 — 첫 페이지 / 커서 다음 페이지
+    @Query(value = "SELECT * FROM \"Inquiries\" WHERE user_id = :userId "
+            + "ORDER BY created_at DESC, inquiry_id DESC LIMIT :limit", nativeQuery = true)
+    List<Inquiry> findLatestByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM \"Inquiries\" WHERE user_id = :userId "
+            + "AND (created_at, inquiry_id) < (:createdAt, :id) "
+            + "ORDER BY created_at DESC, inquiry_id DESC LIMIT :limit", nativeQuery = true)
+    List<Inquiry> findOlderByUserId(@Param("userId") Long userId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    @Param("limit") int limit);
 }
@@ -0,0 +1,48 @@
+package com.aion.back.inquiry.service;
+
+import com.aion.back.common.pagination.CursorPage;
+import com.aion.back.common.pagination.KeysetCursor;
+import com.aion.back.inquiry.dto.InquiryResponseDto;
+import com.aion.back.inquiry.repository.InquiryQueueJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 문의 큐 (필터 + 키셋 페이지, 상태별 건수)
+ */
+@Service
+@RequiredArgsConstructor
+public class InquiryQueueService {
+
+    public static final String STATUS_COUNTS_CACHE = "inquiryStatusCounts";
+
+    private final InquiryQueueJdbcRepository queueRepository;
+
+    public CursorPage<InquiryResponseDto> getQueue(String status, LocalDate from, LocalDate to, Long memberId,
+                                                   String cursor, Integer size) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new RuntimeException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        int limit = CursorPage.pageSize(size);
+        List<InquiryResponseDto> rows = queueRepository.findQueue(status, from, to, memberId,
+                KeysetCursor.decode(cursor), limit + 1);
+        return CursorPage.of(rows, limit, q -> new KeysetCursor(q.getCreatedAt(), q.getInquiryId()), q -> q);
+    }
+
+    /** 상태별 건수 (admin.inquiry.status-counts-ttl-seconds 동안 캐시) */
+    @Cacheable(value = STATUS_COUNTS_CACHE, key = "'all'")
+    public Map<String, Long> getStatusCounts() {
+        return queueRepository.countByStatus();
+    }
+
+    /** 문의 등록 / 답변 / 취소 / 삭제 후 건수 캐시 무효화 */
+    @CacheEvict(value = STATUS_COUNTS_CACHE, allEntries = true)
+    public void evictStatusCounts() {
+    }
+}
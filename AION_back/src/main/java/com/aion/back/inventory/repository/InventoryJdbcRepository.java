@@ -0,0 +1,110 @@
+package com.aion.back.inventory.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 재고 조건부 UPDATE / 예약 테이블 쿼리
+ *
+ * 여러 향수의 재고를 한 트랜잭션에서 바꿀 때는 항상 perfume_id 오름차순으로 UPDATE 한다.
+ * (SortedMap만 받음 → 동시 결제끼리 행 잠금 순서가 같아 교착 상태가 생기지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryJdbcRepository {
+
+    // delta > 0 차감, delta < 0 반환. 남은 재고가 부족하면 0건
+    private static final String APPLY_STOCK_DELTA = """
+            UPDATE "Perfumes"
+               SET total_stock = COALESCE(total_stock, 0) - :delta,
+                   sales_count = COALESCE(sales_count, 0) + :sold
+             WHERE perfume_id = :perfumeId AND COALESCE(total_stock, 0) >= :delta
+            """;
+
+    private static final String INSERT_RESERVATION = """
+            INSERT INTO "Stock_Reservations" (user_id, perfume_id, quantity, expires_at)
+            VALUES (:userId, :perfumeId, :quantity, :expiresAt)
+            """;
+
+    private static final String DELETE_USER_RESERVATIONS = """
+            DELETE FROM "Stock_Reservations" WHERE user_id = :userId
+            RETURNING perfume_id, quantity, expires_at > NOW() AS active
+            """;
+
+    private static final String DELETE_EXPIRED_RESERVATIONS = """
+            DELETE FROM "Stock_Reservations" WHERE expires_at <= NOW()
+            RETURNING perfume_id, quantity
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * perfume_id 순서대로 재고 증감 (한 번의 배치)
+     *
+     * @param deltas 향수별 차감 수량 (음수면 반환)
+     * @param sold   향수별 판매 수량 (sales_count 증가분, 없으면 0)
+     * @return 재고 부족으로 반영되지 않은 향수 ID
+     */
+    public List<Long> applyStockDeltas(SortedMap<Long, Integer> deltas, Map<Long, Integer> sold) {
+        if (deltas.isEmpty()) return List.of();
+        List<Long> ids = new ArrayList<>(deltas.keySet());
+        SqlParameterSource[] batch = ids.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("perfumeId", id)
+                        .addValue("delta", deltas.get(id))
+                        .addValue("sold", sold.getOrDefault(id, 0)))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA, batch);
+
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) failed.add(ids.get(i));
+        }
+        return failed;
+    }
+
+    public void insertReservations(Long userId, Map<Long, Integer> quantities, LocalDateTime expiresAt) {
+        if (quantities.isEmpty()) return;
+        SqlParameterSource[] batch = quantities.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("perfumeId", e.getKey())
+                        .addValue("quantity", e.getValue())
+                        .addValue("expiresAt", expiresAt))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION, batch);
+    }
+
+    /**
+     * 회원의 예약을 모두 지우고 아직 유효한 예약의 향수별 수량 합계 반환
+     *
+     * @param expired 이미 만료된 예약의 합계를 담을 맵 (결제에 쓸 수 없으니 호출 측에서 재고로 되돌림)
+     */
+    public SortedMap<Long, Integer> deleteUserReservations(Long userId, SortedMap<Long, Integer> expired) {
+        SortedMap<Long, Integer> active = new TreeMap<>();
+        jdbcTemplate.query(DELETE_USER_RESERVATIONS, new MapSqlParameterSource("userId", userId), rs -> {
+            SortedMap<Long, Integer> target = rs.getBoolean("active") ? active : expired;
+            target.merge(rs.getLong("perfume_id"), rs.getInt("quantity"), Integer::sum);
+        });
+        return active;
+    }
+
+    /** 만료된 예약을 모두 지우고 향수별 수량 합계 반환 */
+    public SortedMap<Long, Integer> deleteExpiredReservations() {
+        SortedMap<Long, Integer> released = new TreeMap<>();
+        jdbcTemplate.query(DELETE_EXPIRED_RESERVATIONS, rs -> {
+            released.merge(rs.getLong("perfume_id"), rs.getInt("quantity"), Integer::sum);
+        });
+        return released;
+    }
+}
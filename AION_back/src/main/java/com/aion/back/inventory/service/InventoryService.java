@@ -0,0 +1,121 @@
+package com.aion.back.inventory.service;
+
+import com.aion.back.inventory.repository.InventoryJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 향수 재고 차감 / 결제 전 재고 예약
+ *
+ * - 차감은 "total_stock >= 수량" 조건부 UPDATE 한 번 → 읽고 쓰는 사이 다른 결제가 끼어들어도 초과 판매 없음
+ * - 여러 향수를 함께 바꿀 때는 perfume_id 오름차순으로만 잠금 → 동시 결제끼리 교착 상태 없음
+ * - 예약(inventory.reservation.enabled)은 결제 화면 진입 시 재고를 미리 빼 두고,
+ *   결제 시 예약분만큼은 다시 차감하지 않는다. 만료된 예약은 스케줄러가 재고로 되돌린다.
+ *
+ * 행 잠금은 UPDATE 시점부터 커밋까지만 유지되고 향수마다 따로 걸리므로
+ * 한정 판매처럼 한 향수에 결제가 몰려도 재고 확인 → 차감이 한 문장으로 끝난다.
+ */
+@Slf4j
+@Service
+public class InventoryService {
+
+    private final InventoryJdbcRepository inventoryRepository;
+    private final boolean reservationEnabled;
+    private final long reservationTtlMinutes;
+
+    public InventoryService(InventoryJdbcRepository inventoryRepository,
+                            @Value("${inventory.reservation.enabled:false}") boolean reservationEnabled,
+                            @Value("${inventory.reservation.ttl-minutes:15}") long reservationTtlMinutes) {
+        this.inventoryRepository = inventoryRepository;
+        this.reservationEnabled = reservationEnabled;
+        this.reservationTtlMinutes = reservationTtlMinutes;
+    }
+
+    /**
+     * 주문 수량만큼 재고 차감 + 판매량 증가 (주문 트랜잭션 안에서 호출)
+     * 유효한 예약이 있으면 예약분은 이미 빠져 있으므로 차이만 반영한다.
+     *
+     * @param quantities 향수 ID → 주문 수량
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void commitStock(Long userId, Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> deltas = new TreeMap<>(quantities);
+
+        if (reservationEnabled) {
+            SortedMap<Long, Integer> expired = new TreeMap<>();
+            SortedMap<Long, Integer> reserved = inventoryRepository.deleteUserReservations(userId, expired);
+            reserved.forEach((perfumeId, qty) -> deltas.merge(perfumeId, -qty, Integer::sum));
+            expired.forEach((perfumeId, qty) -> deltas.merge(perfumeId, -qty, Integer::sum));
+        }
+        // 차이가 0이어도 판매량은 올려야 하므로 주문에 없는 향수만 생략
+        deltas.entrySet().removeIf(e -> e.getValue() == 0 && !quantities.containsKey(e.getKey()));
+
+        apply(deltas, quantities);
+    }
+
+    /**
+     * 결제 진행 중인 카트 재고 선점. 기존 예약은 모두 되돌리고 새로 잡는다.
+     *
+     * @return 예약 만료 시각
+     */
+    @Transactional
+    public LocalDateTime reserve(Long userId, Map<Long, Integer> quantities) {
+        if (!reservationEnabled) {
+            throw new RuntimeException("재고 예약 기능이 비활성화되어 있습니다.");
+        }
+
+        SortedMap<Long, Integer> deltas = new TreeMap<>(quantities);
+        SortedMap<Long, Integer> expired = new TreeMap<>();
+        inventoryRepository.deleteUserReservations(userId, expired)
+                .forEach((perfumeId, qty) -> deltas.merge(perfumeId, -qty, Integer::sum));
+        expired.forEach((perfumeId, qty) -> deltas.merge(perfumeId, -qty, Integer::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+
+        apply(deltas, Map.of());
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(reservationTtlMinutes);
+        inventoryRepository.insertReservations(userId, quantities, expiresAt);
+        return expiresAt;
+    }
+
+    /** 관리자 재고 조정 (입고 +, 출고 -). 결과 재고가 음수가 되면 실패 */
+    @Transactional
+    public void adjust(Long perfumeId, int quantity) {
+        SortedMap<Long, Integer> delta = new TreeMap<>(Map.of(perfumeId, -quantity));
+        if (!inventoryRepository.applyStockDeltas(delta, Map.of()).isEmpty()) {
+            throw new RuntimeException("재고는 0개 미만이 될 수 없습니다.");
+        }
+    }
+
+    /** 만료된 예약 재고 반환 */
+    @Scheduled(fixedDelayString = "${inventory.reservation.sweep-interval-ms:60000}")
+    @Transactional
+    public void releaseExpiredReservations() {
+        if (!reservationEnabled) return;
+
+        SortedMap<Long, Integer> released = inventoryRepository.deleteExpiredReservations();
+        if (released.isEmpty()) return;
+
+        SortedMap<Long, Integer> deltas = new TreeMap<>();
+        released.forEach((perfumeId, qty) -> deltas.put(perfumeId, -qty));
+        inventoryRepository.applyStockDeltas(deltas, Map.of());
+        log.info("만료된 재고 예약 반환 - 향수 {}종", released.size());
+    }
+
+    private void apply(SortedMap<Long, Integer> deltas, Map<Long, Integer> sold) {
+        List<Long> failed = inventoryRepository.applyStockDeltas(deltas, sold);
+        if (!failed.isEmpty()) {
+            throw new RuntimeException("재고가 부족한 상품이 있습니다. (상품 ID: " + failed + ")");
+        }
+    }
+}
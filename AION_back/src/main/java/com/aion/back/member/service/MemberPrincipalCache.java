@@ -0,0 +1,76 @@
+package com.aion.back.member.service;
+
+import com.aion.back.common.security.AuthPrincipal;
+import com.aion.back.member.entity.Member;
+import com.aion.back.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 → AuthPrincipal 단기 캐시
+ *
+ * 인증이 필요한 요청마다 하던 findByEmail 조회를 TTL(기본 30초) 동안 한 번으로 줄인다.
+ * 프로필 수정 / 탈퇴 / 재가입 시에는 커밋 후 바로 제거한다.
+ */
+@Slf4j
+@Component
+public class MemberPrincipalCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, AuthPrincipal> cache;
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                @Value("${member.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                                @Value("${member.principal-cache.max-size:10000}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "memberPrincipals");
+    }
+
+    public AuthPrincipal get(String email) {
+        AuthPrincipal principal = cache.get(email, this::load);
+        if (principal == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        return principal;
+    }
+
+    /** 진행 중인 트랜잭션이 있으면 커밋 후, 없으면 즉시 제거 */
+    public void evictAfterCommit(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        } else {
+            cache.invalidate(email);
+        }
+    }
+
+    // 없는 회원은 캐시하지 않음 (null 반환)
+    private AuthPrincipal load(String email) {
+        return memberRepository.findByEmail(email)
+                .map(MemberPrincipalCache::toPrincipal)
+                .orElse(null);
+    }
+
+    private static AuthPrincipal toPrincipal(Member member) {
+        return new AuthPrincipal(member.getUserId(), member.getEmail(), member.getRole(), member.getAccountStatus());
+    }
+}
@@ -1,6 +1,8 @@
 package com.aion.back.member.service;
 
 import com.aion.back.common.config.SupabaseJwtValidator;
+import com.aion.back.common.security.AuthPrincipal;
+import com.aion.back.common.security.AuthPrincipalFilter;
 import com.aion.back.member.dto.request.MemberRegistrationRequest;
 import com.aion.back.member.dto.request.ProfileUpdateRequest;
 import com.aion.back.member.dto.response.MemberProfileResponse;
@@ -27,6 +29,9 @@ public class MemberService {
     @Autowired
     private SupabaseJwtValidator jwtValidator;
 
+    @Autowired
+    private MemberPrincipalCache principalCache;
+
     public boolean isEmailDuplicated(String email) {
         return memberRepository.existsByEmail(email);
     }
@@ -93,6 +98,7 @@ public class MemberService {
         member.setCreatedAt(LocalDateTime.now());
 
         memberRepository.save(member);
+        principalCache.evictAfterCommit(request.getEmail());
     }
 
     @Transactional(readOnly = true)
@@ -151,6 +157,7 @@ public class MemberService {
                     email
             );
 
+            principalCache.evictAfterCommit(email);
             log.info("회원 정보 수정 완료: {}", email);
 
             Member updated = memberRepository.findByEmail(email)
@@ -187,6 +194,7 @@ public class MemberService {
                     .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
 
             memberRepository.softDeleteMember("DELETED", reason, email);
+            principalCache.evictAfterCommit(email);
 
             log.info("회원 탈퇴 처리 완료: {}", email);
         } catch (Exception e) {
@@ -201,4 +209,23 @@ public class MemberService {
         return memberRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
     }
+
+    /**
+     * 토큰 → 회원 ID / 이메일 / 권한 / 상태 (DB 조회 없음)
+     * 같은 요청에서 AuthPrincipalFilter가 이미 확인했으면 그대로 사용, 아니면 단기 캐시
+     */
+    public AuthPrincipal getPrincipalByToken(String token) {
+        AuthPrincipal resolved = AuthPrincipalFilter.resolvedFor(token);
+        if (resolved != null) return resolved;
+        String email = jwtValidator.validateAndGetEmail(token.replace("Bearer ", ""));
+        return principalCache.get(email);
+    }
+
+    /**
+     * 연관관계 설정 / findByMember 조건처럼 회원 ID만 필요한 곳용 지연 참조 (조회 없이 프록시 반환)
+     * ID 외 필드에 접근하면 그 시점에 한 번 조회된다.
+     */
+    public Member getMemberReferenceByToken(String token) {
+        return memberRepository.getReferenceById(getPrincipalByToken(token).userId());
+    }
 }
\ No newline at end of file
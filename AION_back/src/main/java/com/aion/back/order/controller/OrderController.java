@@ -1,16 +1,23 @@
 package com.aion.back.order.controller;
 
+import com.aion.back.common.export.NdjsonExporter;
+import com.aion.back.common.pagination.CursorPage;
 import com.aion.back.common.response.ApiResponse;
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.member.entity.Member;
 import com.aion.back.member.service.MemberService;
 import com.aion.back.order.dto.request.OrderCheckoutRequestDto;
 import com.aion.back.order.dto.response.OrderResponseDto;
+import com.aion.back.order.dto.response.StockReservationResponseDto;
 import com.aion.back.order.entity.Order;
 import com.aion.back.order.repository.OrderRepository;
 import com.aion.back.order.service.OrderService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +42,14 @@ public class OrderController {
         return ApiResponse.success("주문이 성공적으로 완료되었습니다!", response);
     }
 
+    @PostMapping("/reservations")
+    public ApiResponse<StockReservationResponseDto> reserveStock(
+            @RequestHeader("Authorization") String token,
+            @RequestBody(required = false) OrderCheckoutRequestDto requestDto) {
+        List<Long> cartItemIds = requestDto != null ? requestDto.getCartItemIds() : null;
+        return ApiResponse.success("재고가 예약되었습니다.", orderService.reserveStock(token, cartItemIds));
+    }
+
     @GetMapping("/my")
     public ApiResponse<List<Order>> getMyOrders(@RequestHeader("Authorization") String token) {
         Member member = memberService.getMemberEntityByToken(token);
@@ -42,18 +57,36 @@ public class OrderController {
         return ApiResponse.success("주문 내역 조회 성공", myOrders);
     }
 
+    @GetMapping("/my/page")
+    public ApiResponse<CursorPage<Order>> getMyOrdersPage(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        return ApiResponse.success("주문 내역 조회 성공", orderService.getMyOrdersPage(principal.userId(), cursor, size));
+    }
+
+    @GetMapping("/my/export")
+    public ResponseEntity<StreamingResponseBody> exportMyOrders(@RequestHeader("Authorization") String token) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        return ResponseEntity.ok()
+                .contentType(NdjsonExporter.NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.ndjson\"")
+                .body(orderService.exportMyOrders(principal.userId()));
+    }
+
     @GetMapping("/{orderId}")
     @Transactional
     public ApiResponse<Map<String, Object>> getOrderDetail(
             @RequestHeader("Authorization") String token,
             @PathVariable Long orderId) {
 
-        Member member = memberService.getMemberEntityByToken(token);
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
 
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
 
-        if (!order.getMember().getUserId().equals(member.getUserId())) {
+        if (!order.getMember().getUserId().equals(principal.userId())) {
             throw new RuntimeException("본인의 주문만 조회할 수 있습니다.");
         }
 
@@ -0,0 +1,17 @@
+package com.aion.back.order.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockReservationResponseDto {
+
+    private Map<Long, Integer> quantities;   // 향수 ID → 예약 수량
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,73 @@
+package com.aion.back.order.repository;
+
+import com.aion.back.order.entity.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 주문 결제 전용 쓰기 쿼리
+ *
+ * - 쿠폰은 "읽고 → 자바에서 계산 → 엔티티 저장" 대신 조건부 UPDATE 한 번으로 처리
+ *   → 같은 회원의 동시 결제에서도 쿠폰 중복 사용이 생기지 않음 (포인트는 PointLedgerJdbcRepository)
+ * - 주문 아이템은 JDBC 배치 INSERT, 카트 삭제는 DELETE 한 번
+ * JPA 트랜잭션과 같은 커넥션을 쓰므로 checkout 트랜잭션 안에서 함께 커밋/롤백된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderCheckoutJdbcRepository {
+
+    private static final String CLAIM_COUPON = """
+            UPDATE "UserCoupons" SET is_used = true, used_at = NOW()
+             WHERE id = :userCouponId AND user_email = :email AND is_used = false
+            """;
+
+    private static final String INSERT_ORDER_ITEM = """
+            INSERT INTO "Order_Items" (order_id, is_custom, perfume_id, perfume_name_snapshot,
+                                       quantity, volume_ml, unit_price, final_price, image_url)
+            VALUES (:orderId, :isCustom, :perfumeId, :perfumeNameSnapshot,
+                    :quantity, :volumeMl, :unitPrice, :finalPrice, :imageUrl)
+            """;
+
+    private static final String DELETE_CART_ITEMS = """
+            DELETE FROM "Carts" WHERE user_id = :userId AND cart_id IN (:cartIds)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 미사용 + 본인 쿠폰이면 사용 처리. 이미 사용됐으면(다른 결제가 먼저 가져감) false */
+    public boolean claimCoupon(Long userCouponId, String email) {
+        return jdbcTemplate.update(CLAIM_COUPON, new MapSqlParameterSource()
+                .addValue("userCouponId", userCouponId)
+                .addValue("email", email)) == 1;
+    }
+
+    public void insertOrderItems(Long orderId, List<OrderItem> items) {
+        if (items.isEmpty()) return;
+        SqlParameterSource[] batch = items.stream()
+                .map(item -> new MapSqlParameterSource()
+                        .addValue("orderId", orderId)
+                        .addValue("isCustom", Boolean.TRUE.equals(item.getIsCustom()))
+                        .addValue("perfumeId", item.getPerfume() != null ? item.getPerfume().getPerfumeId() : null)
+                        .addValue("perfumeNameSnapshot", item.getPerfumeNameSnapshot())
+                        .addValue("quantity", item.getQuantity())
+                        .addValue("volumeMl", item.getVolumeMl())
+                        .addValue("unitPrice", item.getUnitPrice())
+                        .addValue("finalPrice", item.getFinalPrice())
+                        .addValue("imageUrl", item.getImageUrl()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM, batch);
+    }
+
+    public int deleteCartItems(Long userId, Collection<Long> cartIds) {
+        if (cartIds.isEmpty()) return 0;
+        return jdbcTemplate.update(DELETE_CART_ITEMS, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("cartIds", cartIds));
+    }
+}
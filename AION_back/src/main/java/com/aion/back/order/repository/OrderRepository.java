@@ -12,6 +12,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     @Modifying
@@ -27,4 +29,17 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     List<Order> findByMemberOrderByCreatedAtDesc(Member member);
 
+    // 키셋 페이지 (created_at, order_id) 최신순 — 첫 페이지 / 커서 다음 페이지
+    @Query(value = "SELECT * FROM \"Orders\" WHERE user_id = :userId "
+            + "ORDER BY created_at DESC, order_id DESC LIMIT :limit", nativeQuery = true)
+    List<Order> findLatestByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM \"Orders\" WHERE user_id = :userId "
+            + "AND (created_at, order_id) < (:createdAt, :id) "
+            + "ORDER BY created_at DESC, order_id DESC LIMIT :limit", nativeQuery = true)
+    List<Order> findOlderByUserId(@Param("userId") Long userId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  @Param("limit") int limit);
+
 }
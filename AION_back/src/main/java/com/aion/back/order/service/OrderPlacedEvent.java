@@ -0,0 +1,14 @@
+package com.aion.back.order.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주문 결제 완료 이벤트
+ * 커밋 이후 매출 / 향수별 주문 통계 집계에 사용
+ */
+public record OrderPlacedEvent(Long orderId, LocalDate orderDate, int finalAmount, List<Line> lines) {
+
+    /** 일반 향수 주문 항목 (커스텀 향수는 제외) */
+    public record Line(Long perfumeId, int quantity, int amount) {}
+}
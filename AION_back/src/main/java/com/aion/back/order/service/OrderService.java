@@ -2,25 +2,34 @@ package com.aion.back.order.service;
 
 import com.aion.back.cart.entity.Cart;
 import com.aion.back.cart.repository.CartRepository;
+import com.aion.back.common.export.NdjsonExporter;
+import com.aion.back.common.pagination.CursorPage;
+import com.aion.back.common.pagination.KeysetCursor;
 import com.aion.back.coupon.entity.UserCoupon;
 import com.aion.back.coupon.repository.UserCouponRepository;
+import com.aion.back.inventory.service.InventoryService;
 import com.aion.back.member.entity.Member;
-import com.aion.back.member.repository.MemberRepository;
 import com.aion.back.member.service.MemberService;
 import com.aion.back.order.dto.request.OrderCheckoutRequestDto;
 import com.aion.back.order.dto.response.OrderResponseDto;
+import com.aion.back.order.dto.response.StockReservationResponseDto;
 import com.aion.back.order.entity.Order;
 import com.aion.back.order.entity.OrderItem;
-import com.aion.back.order.repository.OrderItemRepository;
+import com.aion.back.order.repository.OrderCheckoutJdbcRepository;
 import com.aion.back.order.repository.OrderRepository;
-import com.aion.back.point.entity.Point;
-import com.aion.back.point.repository.PointHistoryRepository;
+import com.aion.back.outbox.service.OutboxService;
+import com.aion.back.point.service.OrderPointsEarnedHandler;
+import com.aion.back.point.service.PointService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -32,10 +41,34 @@ public class OrderService {
     private final MemberService memberService;
     private final CartRepository cartRepository;
     private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
     private final UserCouponRepository userCouponRepository;
-    private final MemberRepository memberRepository;
-    private final PointHistoryRepository pointHistoryRepository;
+    private final OrderCheckoutJdbcRepository checkoutJdbcRepository;
+    private final InventoryService inventoryService;
+    private final PointService pointService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NdjsonExporter ndjsonExporter;
+
+    // 주문 + 주문 상품을 DB에서 JSON 한 줄씩 생성 (필드명은 주문 목록 응답과 동일)
+    private static final String EXPORT_ORDERS = """
+            SELECT json_build_object(
+                       'orderId', o.order_id, 'orderNumber', o.order_number, 'orderStatus', o.order_status,
+                       'paymentMethod', o.payment_method, 'totalAmount', o.total_amount,
+                       'discountAmount', o.coupon_discount, 'pointsUsed', o.point_used, 'finalAmount', o.final_amount,
+                       'receiverName', o.receiver_name, 'receiverPhone', o.receiver_phone,
+                       'shippingZipcode', o.shipping_zipcode, 'shippingAddress', o.shipping_address,
+                       'createdAt', o.created_at,
+                       'orderItems', COALESCE((
+                           SELECT json_agg(json_build_object(
+                                      'orderItemId', i.order_item_id, 'perfumeId', i.perfume_id,
+                                      'isCustom', COALESCE(i.is_custom, false), 'perfumeNameSnapshot', i.perfume_name_snapshot,
+                                      'volumeMl', i.volume_ml, 'quantity', i.quantity, 'unitPrice', i.unit_price,
+                                      'finalPrice', i.final_price, 'imageUrl', i.image_url) ORDER BY i.order_item_id)
+                             FROM "Order_Items" i WHERE i.order_id = o.order_id), '[]'::json))::text
+              FROM "Orders" o
+             WHERE o.user_id = :userId
+             ORDER BY o.created_at DESC, o.order_id DESC
+            """;
 
     @Transactional
     public OrderResponseDto checkout(String token, OrderCheckoutRequestDto requestDto) {
@@ -93,28 +126,25 @@ public class OrderService {
             if (!userCoupon.getMember().getEmail().equals(member.getEmail()) || userCoupon.getIsUsed()) {
                 throw new RuntimeException("사용할 수 없는 쿠폰입니다.");
             }
+            // 조건부 UPDATE로 선점 → 동시에 들어온 다른 결제가 먼저 썼으면 0건
+            if (!checkoutJdbcRepository.claimCoupon(userCoupon.getId(), member.getEmail())) {
+                throw new RuntimeException("사용할 수 없는 쿠폰입니다.");
+            }
 
             if ("PERCENTAGE".equals(userCoupon.getCoupon().getDiscountType())) {
                 discountAmount = (int) (totalAmount * (userCoupon.getCoupon().getDiscountValue() / 100.0));
             } else {
                 discountAmount = userCoupon.getCoupon().getDiscountValue();
             }
-
-            userCoupon.setIsUsed(true);
-            userCoupon.setUsedAt(LocalDateTime.now());
-            userCouponRepository.save(userCoupon);
         }
 
-        // ── 4. 포인트 차감 ────────────────────────────────────────────────────
+        // ── 4. 포인트 검증 ────────────────────────────────────────────────────
         int pointsToUse = requestDto.getPointsToUse();
         if (pointsToUse < 0) {
             throw new RuntimeException("포인트 사용량이 유효하지 않습니다.");
         }
+        // 잔액 확인은 9단계 usePoints의 조건부 차감에서 (여기서 읽은 잔액은 동시 결제 시 이미 낡은 값)
         if (pointsToUse > 0) {
-            int currentPoints = member.getTotalPoints() == null ? 0 : member.getTotalPoints();
-            if (currentPoints < pointsToUse) {
-                throw new RuntimeException("보유 포인트가 부족합니다. (보유: " + currentPoints + "P, 요청: " + pointsToUse + "P)");
-            }
             int maxUsable = Math.max(0, totalAmount - discountAmount);
             if (pointsToUse > maxUsable) {
                 throw new RuntimeException("포인트 사용액이 결제 금액을 초과할 수 없습니다.");
@@ -147,26 +177,7 @@ public class OrderService {
 
         Order savedOrder = orderRepository.save(order);
 
-        // ── 7. 포인트 차감 이력 ───────────────────────────────────────────────
-        if (pointsToUse > 0) {
-            int balanceAfterUse = (member.getTotalPoints() == null ? 0 : member.getTotalPoints()) - pointsToUse;
-
-            pointHistoryRepository.save(Point.builder()
-                    .member(member)
-                    .amount(-pointsToUse)
-                    .balanceAfter(balanceAfterUse)
-                    .reason("포인트 사용")
-                    .reasonDetail("주문 결제 포인트 차감 (" + savedOrder.getOrderNumber() + ")")
-                    .relatedOrderId(savedOrder.getOrderId())
-                    .status(Point.PointStatus.USED)
-                    .usedAt(LocalDateTime.now())
-                    .build());
-
-            member.setTotalPoints(balanceAfterUse);
-            memberRepository.save(member);
-        }
-
-        // ── 8. 주문 아이템 저장 ───────────────────────────────────────────────
+        // ── 7. 주문 아이템 저장 (배치) ────────────────────────────────────────
         List<OrderItem> orderItems = cartItems.stream()
                 .filter(cart -> Boolean.TRUE.equals(cart.getIsCustom()) || cart.getPerfume() != null)
                 .map(cart -> {
@@ -201,33 +212,36 @@ public class OrderService {
                 })
                 .collect(Collectors.toList());
 
-        orderItemRepository.saveAll(orderItems);
-
-        // ── 9. 주문된 항목만 카트에서 삭제 (선택 구매 핵심) ──────────────────
-        cartRepository.deleteAll(cartItems);  // 전체가 아닌 선택된 cartItems만 삭제
-
-        // ── 10. 포인트 적립 ───────────────────────────────────────────────────
-        int earnedPoints = (int) Math.floor(finalAmount * 0.001);
-        if (earnedPoints > 0) {
-            int currentBalance = member.getTotalPoints() == null ? 0 : member.getTotalPoints();
-            int balanceAfterEarn = currentBalance + earnedPoints;
-
-            pointHistoryRepository.save(Point.builder()
-                    .member(member)
-                    .amount(earnedPoints)
-                    .balanceAfter(balanceAfterEarn)
-                    .reason("주문 포인트 적립")
-                    .reasonDetail("결제 금액 ₩" + String.format("%,d", finalAmount)
-                            + "의 0.1% 적립 (" + savedOrder.getOrderNumber() + ")")
-                    .relatedOrderId(savedOrder.getOrderId())
-                    .status(Point.PointStatus.AVAILABLE)
-                    .expireAt(LocalDateTime.now().plusYears(1))
-                    .build());
-
-            member.setTotalPoints(balanceAfterEarn);
-            memberRepository.save(member);
+        checkoutJdbcRepository.insertOrderItems(savedOrder.getOrderId(), orderItems);
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getOrderId(), savedOrder.getCreatedAt().toLocalDate(), finalAmount,
+                orderItems.stream()
+                        .filter(item -> item.getPerfume() != null)
+                        .map(item -> new OrderPlacedEvent.Line(
+                                item.getPerfume().getPerfumeId(), item.getQuantity(), item.getFinalPrice()))
+                        .collect(Collectors.toList())));
+
+        // ── 8. 주문된 항목만 카트에서 삭제 (선택 구매 핵심) ──────────────────
+        checkoutJdbcRepository.deleteCartItems(member.getUserId(),
+                cartItems.stream().map(Cart::getCartId).collect(Collectors.toList()));
+
+        // ── 9. 포인트 차감 (Users 행 잠금이 커밋까지 유지되므로 뒤쪽에서) ──────
+        if (pointsToUse > 0) {
+            pointService.usePoints(member.getUserId(), pointsToUse, savedOrder.getOrderId(), savedOrder.getOrderNumber());
         }
 
+        // 적립은 결제에 필수가 아니므로 아웃박스에 적재 → 커밋 후 백그라운드 처리
+        if ((int) Math.floor(finalAmount * 0.001) > 0) {
+            outboxService.enqueue(OrderPointsEarnedHandler.TYPE,
+                    OutboxService.memberKey(member.getUserId()),
+                    OrderPointsEarnedHandler.idempotencyKey(savedOrder.getOrderId()),
+                    new OrderPointsEarnedHandler.Payload(member.getUserId(), savedOrder.getOrderId(),
+                            savedOrder.getOrderNumber(), finalAmount));
+        }
+
+        // ── 10. 재고 차감 + 판매량 증가 ──────────────────────────────────────
+        // 향수 행 잠금이 커밋까지 유지되므로 가장 마지막에 (한정 판매 시 대기 시간 최소화)
+        inventoryService.commitStock(member.getUserId(), stockQuantities(cartItems));
+
         return OrderResponseDto.from(savedOrder);
     }
 
@@ -239,4 +253,51 @@ public class OrderService {
     private String orEmpty(String s) {
         return s != null ? s : "";
     }
+
+    /** 내 주문 키셋 페이지 (cursor는 이전 응답의 nextCursor, 첫 페이지는 null) */
+    @Transactional(readOnly = true)
+    public CursorPage<Order> getMyOrdersPage(Long userId, String cursor, Integer size) {
+        int limit = CursorPage.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Order> rows = after == null
+                ? orderRepository.findLatestByUserId(userId, limit + 1)
+                : orderRepository.findOlderByUserId(userId, after.createdAt(), after.id(), limit + 1);
+        return CursorPage.of(rows, limit, o -> new KeysetCursor(o.getCreatedAt(), o.getOrderId()), o -> o);
+    }
+
+    /** 내 주문 전체 NDJSON */
+    public StreamingResponseBody exportMyOrders(Long userId) {
+        return ndjsonExporter.stream(EXPORT_ORDERS, new MapSqlParameterSource("userId", userId));
+    }
+
+    /**
+     * 결제 화면 진입 시 카트 재고 선점 (inventory.reservation.enabled=true 일 때)
+     * cartItemIds가 없으면 카트 전체
+     */
+    @Transactional
+    public StockReservationResponseDto reserveStock(String token, List<Long> cartItemIds) {
+        Member member = memberService.getMemberEntityByToken(token);
+
+        List<Cart> cartItems = cartRepository.findByMember(member);
+        if (cartItemIds != null && !cartItemIds.isEmpty()) {
+            Set<Long> selectedIds = Set.copyOf(cartItemIds);
+            cartItems = cartItems.stream()
+                    .filter(c -> selectedIds.contains(c.getCartId()))
+                    .collect(Collectors.toList());
+        }
+        if (cartItems.isEmpty()) {
+            throw new RuntimeException("선택하신 상품을 장바구니에서 찾을 수 없습니다.");
+        }
+
+        Map<Long, Integer> quantities = stockQuantities(cartItems);
+        LocalDateTime expiresAt = inventoryService.reserve(member.getUserId(), quantities);
+        return new StockReservationResponseDto(quantities, expiresAt);
+    }
+
+    // 일반 향수만 재고 관리 대상 (커스텀 향수는 제외), 같은 향수는 수량 합산
+    private static Map<Long, Integer> stockQuantities(List<Cart> cartItems) {
+        return cartItems.stream()
+                .filter(cart -> !Boolean.TRUE.equals(cart.getIsCustom()) && cart.getPerfume() != null)
+                .collect(Collectors.toMap(cart -> cart.getPerfume().getPerfumeId(), Cart::getQuantity, Integer::sum));
+    }
 }
@@ -0,0 +1,103 @@
+package com.aion.back.outbox.repository;
+
+import com.aion.back.outbox.service.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Outbox_Events 쿼리
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+    private static final String INSERT = """
+            INSERT INTO "Outbox_Events" (event_type, aggregate_key, idempotency_key, payload)
+            VALUES (:eventType, :aggregateKey, :idempotencyKey, CAST(:payload AS jsonb))
+            ON CONFLICT (idempotency_key) DO NOTHING
+            """;
+
+    // 키마다 아직 끝나지 않은 가장 앞선 이벤트만 가져감 → 같은 회원의 이벤트는 항상 순서대로, 한 번에 하나씩
+    // PROCESSING 인데 locked_until이 지난 건 처리 중 서버가 죽은 경우 → 다시 가져감
+    private static final String CLAIM = """
+            UPDATE "Outbox_Events"
+               SET status = 'PROCESSING', locked_until = NOW() + make_interval(secs => :lockSeconds)
+             WHERE event_id IN (
+                   SELECT e.event_id FROM "Outbox_Events" e
+                    WHERE ((e.status = 'PENDING' AND e.next_attempt_at <= NOW())
+                           OR (e.status = 'PROCESSING' AND e.locked_until < NOW()))
+                      AND NOT EXISTS (SELECT 1 FROM "Outbox_Events" p
+                                       WHERE p.aggregate_key = e.aggregate_key
+                                         AND p.event_id < e.event_id
+                                         AND p.status IN ('PENDING', 'PROCESSING'))
+                    ORDER BY e.event_id
+                    LIMIT :batchSize
+                      FOR UPDATE SKIP LOCKED)
+            RETURNING event_id, event_type, aggregate_key, payload::text AS payload, attempts
+            """;
+
+    private static final String MARK_DONE = """
+            UPDATE "Outbox_Events"
+               SET status = 'DONE', processed_at = NOW(), locked_until = NULL, attempts = attempts + 1
+             WHERE event_id = :eventId
+            """;
+
+    private static final String MARK_RETRY = """
+            UPDATE "Outbox_Events"
+               SET status = CASE WHEN :attempts >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END,
+                   attempts = :attempts,
+                   next_attempt_at = NOW() + make_interval(secs => :delaySeconds),
+                   locked_until = NULL,
+                   last_error = :error
+             WHERE event_id = :eventId
+            """;
+
+    private static final String PURGE_DONE = """
+            DELETE FROM "Outbox_Events"
+             WHERE status = 'DONE' AND processed_at < NOW() - make_interval(days => :retentionDays)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** @return 새로 적재됐으면 true, 같은 멱등 키가 이미 있으면 false */
+    public boolean insert(String eventType, String aggregateKey, String idempotencyKey, String payload) {
+        return jdbcTemplate.update(INSERT, new MapSqlParameterSource()
+                .addValue("eventType", eventType)
+                .addValue("aggregateKey", aggregateKey)
+                .addValue("idempotencyKey", idempotencyKey)
+                .addValue("payload", payload)) == 1;
+    }
+
+    public List<OutboxMessage> claim(int batchSize, int lockSeconds) {
+        return jdbcTemplate.query(CLAIM, new MapSqlParameterSource()
+                        .addValue("batchSize", batchSize)
+                        .addValue("lockSeconds", lockSeconds),
+                (rs, i) -> new OutboxMessage(
+                        rs.getLong("event_id"),
+                        rs.getString("event_type"),
+                        rs.getString("aggregate_key"),
+                        rs.getString("payload"),
+                        rs.getInt("attempts")));
+    }
+
+    public void markDone(Long eventId) {
+        jdbcTemplate.update(MARK_DONE, new MapSqlParameterSource("eventId", eventId));
+    }
+
+    public void markRetry(Long eventId, int attempts, int maxAttempts, long delaySeconds, String error) {
+        jdbcTemplate.update(MARK_RETRY, new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("attempts", attempts)
+                .addValue("maxAttempts", maxAttempts)
+                .addValue("delaySeconds", delaySeconds)
+                .addValue("error", error));
+    }
+
+    public int purgeDone(int retentionDays) {
+        return jdbcTemplate.update(PURGE_DONE, new MapSqlParameterSource("retentionDays", retentionDays));
+    }
+}
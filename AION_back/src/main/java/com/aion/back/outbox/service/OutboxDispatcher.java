@@ -0,0 +1,149 @@
+package com.aion.back.outbox.service;
+
+import com.aion.back.outbox.repository.OutboxJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트 백그라운드 처리
+ *
+ * outbox.poll-interval-ms 마다 처리 가능한 이벤트를 가져와 전용 풀에서 동시에 처리한다.
+ * 한 번에 가져오는 건 키(회원)마다 가장 앞선 한 건뿐이라 같은 회원의 이벤트는 순서가 뒤바뀌지 않는다.
+ * 실패하면 지수 백오프로 다시 시도하고, outbox.max-attempts 를 넘기면 FAILED로 남긴다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxJdbcRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, OutboxHandler<?>> handlers;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int lockSeconds;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    private final Counter doneCounter;
+    private final Counter retryCounter;
+
+    public OutboxDispatcher(OutboxJdbcRepository outboxRepository,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            List<OutboxHandler<?>> handlers,
+                            @Value("${outbox.dispatcher-threads:4}") int dispatcherThreads,
+                            @Value("${outbox.batch-size:50}") int batchSize,
+                            @Value("${outbox.lock-seconds:300}") int lockSeconds,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.retention-days:7}") int retentionDays,
+                            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers.stream().collect(Collectors.toMap(OutboxHandler::type, Function.identity()));
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(dispatcherThreads, r -> {
+            Thread t = new Thread(r, "outbox-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.batchSize = batchSize;
+        this.lockSeconds = lockSeconds;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+        this.doneCounter = Counter.builder("outbox.dispatched").tag("result", "done").register(meterRegistry);
+        this.retryCounter = Counter.builder("outbox.dispatched").tag("result", "retry").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<OutboxMessage> messages;
+        try {
+            messages = outboxRepository.claim(batchSize, lockSeconds);
+        } catch (Exception e) {
+            log.warn("아웃박스 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (messages.isEmpty()) return;
+
+        // 이번 묶음이 모두 끝난 뒤에 다음 묶음을 가져감 (키별 순서 유지)
+        // 기다리는 동안 스케줄러 스레드 하나를 점유하므로 spring.task.scheduling.pool.size 로 다른 작업용 스레드를 따로 둠
+        // 실패 기록까지 못 한 이벤트는 PROCESSING으로 남아 있다가 locked_until 이후 다시 처리됨
+        try {
+            CompletableFuture.allOf(messages.stream()
+                            .map(message -> CompletableFuture.runAsync(() -> process(message), executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException e) {
+            log.warn("아웃박스 처리 결과 기록 실패: {}", e.getCause().getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            int purged = outboxRepository.purgeDone(retentionDays);
+            if (purged > 0) log.info("완료된 아웃박스 이벤트 정리 - {}건", purged);
+        } catch (Exception e) {
+            log.warn("아웃박스 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void process(OutboxMessage message) {
+        try {
+            OutboxHandler<?> handler = handlers.get(message.eventType());
+            if (handler == null) {
+                throw new IllegalStateException("처리기가 없는 이벤트 유형: " + message.eventType());
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                handle(handler, message.payload());
+                outboxRepository.markDone(message.eventId());
+            });
+            doneCounter.increment();
+        } catch (Exception e) {
+            int attempts = message.attempts() + 1;
+            long delay = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 20));
+            String error = String.valueOf(e.getMessage());
+            log.warn("아웃박스 이벤트 처리 실패 - id: {}, 유형: {}, 시도: {}/{}, 사유: {}",
+                    message.eventId(), message.eventType(), attempts, maxAttempts, error);
+            outboxRepository.markRetry(message.eventId(), attempts, maxAttempts, delay,
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            retryCounter.increment();
+        }
+    }
+
+    private <T> void handle(OutboxHandler<T> handler, String payload) {
+        try {
+            handler.handle(objectMapper.readValue(payload, handler.payloadType()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
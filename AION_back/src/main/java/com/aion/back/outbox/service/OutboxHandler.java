@@ -0,0 +1,16 @@
+package com.aion.back.outbox.service;
+
+/**
+ * 아웃박스 이벤트 처리기
+ *
+ * handle은 완료 표시와 같은 트랜잭션에서 실행된다. (DB 쓰기만 하는 처리기는 정확히 한 번 반영)
+ * 예외를 던지면 롤백 후 지수 백오프로 재시도한다.
+ */
+public interface OutboxHandler<T> {
+
+    String type();
+
+    Class<T> payloadType();
+
+    void handle(T payload);
+}
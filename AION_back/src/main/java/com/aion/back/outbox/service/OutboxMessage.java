@@ -0,0 +1,6 @@
+package com.aion.back.outbox.service;
+
+/**
+ * 디스패처가 가져간 아웃박스 이벤트 한 건
+ */
+public record OutboxMessage(Long eventId, String eventType, String aggregateKey, String payload, int attempts) {}
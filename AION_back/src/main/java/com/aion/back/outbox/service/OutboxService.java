@@ -0,0 +1,41 @@
+package com.aion.back.outbox.service;
+
+import com.aion.back.outbox.repository.OutboxJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 트랜잭션 아웃박스 적재
+ *
+ * 요청 트랜잭션 안에서 "나중에 할 일"을 Outbox_Events에 함께 INSERT 한다.
+ * 커밋되면 OutboxDispatcher가 요청 경로 밖에서 처리하고, 롤백되면 같이 사라진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxJdbcRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 회원 단위 순서 보장 키 */
+    public static String memberKey(Long userId) {
+        return "member:" + userId;
+    }
+
+    /**
+     * @param aggregateKey   같은 키의 이벤트는 적재 순서대로 하나씩 처리
+     * @param idempotencyKey 같은 작업의 중복 적재 방지 (이미 있으면 무시)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String eventType, String aggregateKey, String idempotencyKey, Object payload) {
+        try {
+            outboxRepository.insert(eventType, aggregateKey, idempotencyKey, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("아웃박스 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+}
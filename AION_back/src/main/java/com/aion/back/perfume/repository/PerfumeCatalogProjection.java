@@ -0,0 +1,18 @@
+package com.aion.back.perfume.repository;
+
+import java.time.LocalDateTime;
+
+public interface PerfumeCatalogProjection {
+    Long getPerfumeId();
+    String getName();
+    String getNameEn();
+    String getBrandName();
+    String getGender();
+    Integer getPrice();
+    Integer getSalePrice();
+    Double getAvgRating();
+    Integer getSalesCount();
+    Integer getWishlistCount();
+    LocalDateTime getCreatedAt();
+    String getDescription();
+}
@@ -3,8 +3,11 @@ package com.aion.back.perfume.repository;
 import com.aion.back.perfume.entity.PerfumeImage;
 import com.aion.back.perfume.entity.Perfume;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +15,9 @@ import java.util.Optional;
 public interface PerfumeImageRepository extends JpaRepository<PerfumeImage, Long> {
     Optional<PerfumeImage> findByPerfumeAndIsThumbnailTrue(Perfume perfume);
     List<PerfumeImage> findByPerfumeOrderByDisplayOrder(Perfume perfume);
+
+    @Query("SELECT pi.perfume.perfumeId AS perfumeId, pi.imageUrl AS imageUrl FROM PerfumeImage pi " +
+            "WHERE pi.perfume.perfumeId IN :perfumeIds AND pi.isThumbnail = true " +
+            "ORDER BY pi.displayOrder ASC")
+    List<PerfumeThumbnailProjection> findThumbnailsByPerfumeIds(@Param("perfumeIds") Collection<Long> perfumeIds);
 }
\ No newline at end of file
@@ -3,12 +3,14 @@ package com.aion.back.perfume.repository;
 import com.aion.back.perfume.entity.Perfume;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,6 +47,16 @@ public interface PerfumeRepository extends JpaRepository<Perfume, Long> {
             "WHERE p.name ILIKE CONCAT('%', :keyword, '%')", nativeQuery = true)
     List<PerfumeSearchProjection> searchWithImages(@Param("keyword") String keyword);
 
+    // 검색 페이지용: 일치 건을 모두 읽지 않고 상위 limit건만 (페이지 간 순서가 같도록 ID순)
+    @Query(value = "SELECT p.perfume_id AS perfumeId, p.name AS name, p.price AS price, " +
+            "b.brand_name AS brandName, pi.image_url AS imageUrl " +
+            "FROM \"Perfumes\" p " +
+            "LEFT JOIN \"Brands\" b ON p.brand_id = b.brand_id " +
+            "LEFT JOIN \"Perfume_Images\" pi ON p.perfume_id = pi.perfume_id AND pi.is_thumbnail = true " +
+            "WHERE p.name ILIKE CONCAT('%', :keyword, '%') " +
+            "ORDER BY p.perfume_id LIMIT :limit", nativeQuery = true)
+    List<PerfumeSearchProjection> searchWithImages(@Param("keyword") String keyword, @Param("limit") int limit);
+
     @Query(value = """
         SELECT DISTINCT p.* FROM "Perfumes" p
         INNER JOIN "Perfume_Tags" pt ON p.perfume_id = pt.perfume_id
@@ -69,4 +81,38 @@ public interface PerfumeRepository extends JpaRepository<Perfume, Long> {
             @Param("tagCount") long tagCount,
             Pageable pageable
     );
+
+    @EntityGraph(attributePaths = "brand")
+    List<Perfume> findWithBrandByPerfumeIdIn(Collection<Long> perfumeIds);
+
+    // ── 인메모리 카탈로그 / 검색 인덱스 적재용 ─────────────────────────
+    String CATALOG_SELECT = "SELECT p.perfume_id AS perfumeId, p.name AS name, p.name_en AS nameEn, " +
+            "b.brand_name AS brandName, p.gender AS gender, p.price AS price, p.sale_price AS salePrice, " +
+            "p.avg_rating AS avgRating, p.sales_count AS salesCount, p.wishlist_count AS wishlistCount, " +
+            "p.created_at AS createdAt, p.description AS description " +
+            "FROM \"Perfumes\" p " +
+            "LEFT JOIN \"Brands\" b ON p.brand_id = b.brand_id ";
+
+    String CATALOG_TAG_SELECT = "SELECT pt.perfume_id AS perfumeId, prt.tag_name AS tagName, prt.tag_type AS tagType " +
+            "FROM \"Perfume_Tags\" pt " +
+            "JOIN \"Preference_Tags\" prt ON pt.tag_id = prt.tag_id ";
+
+    @Query(value = CATALOG_SELECT + "WHERE p.is_active = true", nativeQuery = true)
+    List<PerfumeCatalogProjection> findActiveCatalogEntries();
+
+    @Query(value = CATALOG_SELECT + "WHERE p.is_active = true AND p.perfume_id = :perfumeId", nativeQuery = true)
+    Optional<PerfumeCatalogProjection> findActiveCatalogEntry(@Param("perfumeId") Long perfumeId);
+
+    @Query(value = CATALOG_TAG_SELECT +
+            "JOIN \"Perfumes\" p ON pt.perfume_id = p.perfume_id WHERE p.is_active = true", nativeQuery = true)
+    List<PerfumeTagProjection> findActiveCatalogTags();
+
+    @Query(value = CATALOG_TAG_SELECT + "WHERE pt.perfume_id = :perfumeId", nativeQuery = true)
+    List<PerfumeTagProjection> findCatalogTags(@Param("perfumeId") Long perfumeId);
+
+    // 판매 / 찜 / 평점은 결제·집계 반영으로 계속 바뀌므로 정렬 키만 따로 주기적으로 다시 읽음
+    @Query(value = "SELECT p.perfume_id AS perfumeId, p.avg_rating AS avgRating, " +
+            "p.sales_count AS salesCount, p.wishlist_count AS wishlistCount " +
+            "FROM \"Perfumes\" p WHERE p.is_active = true", nativeQuery = true)
+    List<PerfumeSortKeyProjection> findActiveCatalogSortKeys();
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.aion.back.perfume.repository;
+
+public interface PerfumeSortKeyProjection {
+    Long getPerfumeId();
+    Double getAvgRating();
+    Integer getSalesCount();
+    Integer getWishlistCount();
+}
@@ -0,0 +1,7 @@
+package com.aion.back.perfume.repository;
+
+public interface PerfumeTagProjection {
+    Long getPerfumeId();
+    String getTagName();
+    String getTagType();
+}
@@ -0,0 +1,6 @@
+package com.aion.back.perfume.repository;
+
+public interface PerfumeThumbnailProjection {
+    Long getPerfumeId();
+    String getImageUrl();
+}
@@ -0,0 +1,19 @@
+package com.aion.back.perfume.service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 향수 데이터 변경 이벤트 (관리자 등록/수정/단종/할인 등)
+ * 커밋 이후 인메모리 인덱스 갱신에 사용
+ */
+public record PerfumeChangedEvent(List<Long> perfumeIds) {
+
+    public static PerfumeChangedEvent of(Long perfumeId) {
+        return new PerfumeChangedEvent(List.of(perfumeId));
+    }
+
+    public static PerfumeChangedEvent of(Collection<Long> perfumeIds) {
+        return new PerfumeChangedEvent(List.copyOf(perfumeIds));
+    }
+}
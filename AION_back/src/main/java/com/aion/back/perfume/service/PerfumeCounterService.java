@@ -0,0 +1,145 @@
+package com.aion.back.perfume.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 / 찜 수 write-behind 집계
+ *
+ * 상세 조회마다 Perfumes 행을 UPDATE 하지 않고 향수별 LongAdder에 모아 두었다가
+ * 주기적으로(perfume.counters.flush-interval-ms) "view_count = view_count + 증가분" 배치 한 번으로 반영한다.
+ * 종료 시에도 한 번 반영하고, 반영 전 증가분은 pendingViews / pendingWishlists로 응답에 더해 준다.
+ * 판매량은 결제 트랜잭션에서 재고와 함께 올리므로 여기서 다루지 않는다. (InventoryService)
+ */
+@Slf4j
+@Service
+public class PerfumeCounterService {
+
+    private static final String FLUSH_SQL = """
+            UPDATE "Perfumes"
+               SET view_count = COALESCE(view_count, 0) + :views,
+                   wishlist_count = GREATEST(COALESCE(wishlist_count, 0) + :wishlists, 0)
+             WHERE perfume_id = :perfumeId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> views = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> wishlists = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+
+    // 마지막으로 반영에 성공한 시각 (반영할 것이 없었던 경우 포함)
+    private volatile long lastFlushedAt = System.currentTimeMillis();
+
+    public PerfumeCounterService(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTimer = Timer.builder("perfume.counters.flush").register(meterRegistry);
+        Gauge.builder("perfume.counters.flush.lag", this, s -> (System.currentTimeMillis() - s.lastFlushedAt) / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("perfume.counters.pending", this, s -> pendingTotal(s.views) + pendingTotal(s.wishlists))
+                .register(meterRegistry);
+    }
+
+    public void recordView(Long perfumeId) {
+        views.computeIfAbsent(perfumeId, id -> new LongAdder()).increment();
+    }
+
+    /** 찜 추가(+1) / 취소(-1). 트랜잭션 안이면 커밋된 뒤에만 집계 */
+    public void recordWishlist(Long perfumeId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wishlists.computeIfAbsent(perfumeId, id -> new LongAdder()).add(delta);
+                }
+            });
+        } else {
+            wishlists.computeIfAbsent(perfumeId, id -> new LongAdder()).add(delta);
+        }
+    }
+
+    public int pendingViews(Long perfumeId) {
+        return pending(views, perfumeId);
+    }
+
+    public int pendingWishlists(Long perfumeId) {
+        return pending(wishlists, perfumeId);
+    }
+
+    @Scheduled(fixedDelayString = "${perfume.counters.flush-interval-ms:10000}")
+    public void flush() {
+        SortedMap<Long, long[]> deltas = drain();
+        if (deltas.isEmpty()) {
+            lastFlushedAt = System.currentTimeMillis();
+            return;
+        }
+
+        // perfume_id 순서로 반영 (결제 재고 차감과 같은 잠금 순서)
+        SqlParameterSource[] batch = deltas.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("perfumeId", e.getKey())
+                        .addValue("views", e.getValue()[0])
+                        .addValue("wishlists", e.getValue()[1]))
+                .toArray(SqlParameterSource[]::new);
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            lastFlushedAt = System.currentTimeMillis();
+            log.debug("향수 카운터 반영 - {}종", deltas.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영되도록 되돌림
+            deltas.forEach((perfumeId, d) -> {
+                views.computeIfAbsent(perfumeId, id -> new LongAdder()).add(d[0]);
+                wishlists.computeIfAbsent(perfumeId, id -> new LongAdder()).add(d[1]);
+            });
+            log.warn("향수 카운터 반영 실패 - {}종, 다음 주기에 재시도: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // sumThenReset은 셀 단위 getAndSet이라 동시에 들어온 증가분이 사라지지 않는다.
+    private SortedMap<Long, long[]> drain() {
+        SortedMap<Long, long[]> deltas = new TreeMap<>();
+        views.forEach((perfumeId, adder) -> {
+            long n = adder.sumThenReset();
+            if (n != 0) deltas.computeIfAbsent(perfumeId, id -> new long[2])[0] = n;
+        });
+        wishlists.forEach((perfumeId, adder) -> {
+            long n = adder.sumThenReset();
+            if (n != 0) deltas.computeIfAbsent(perfumeId, id -> new long[2])[1] = n;
+        });
+        return deltas;
+    }
+
+    private static int pending(Map<Long, LongAdder> counters, Long perfumeId) {
+        LongAdder adder = counters.get(perfumeId);
+        return adder == null ? 0 : adder.intValue();
+    }
+
+    private static long pendingTotal(Map<Long, LongAdder> counters) {
+        long total = 0;
+        for (LongAdder adder : counters.values()) {
+            total += Math.abs(adder.sum());
+        }
+        return total;
+    }
+}
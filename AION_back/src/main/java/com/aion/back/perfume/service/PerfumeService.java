@@ -3,6 +3,7 @@ import com.aion.back.perfume.entity.*;
 import com.aion.back.perfume.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -14,25 +15,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class PerfumeService {
 
     private final PerfumeRepository perfumeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PerfumeCounterService counterService;
 
     public Page<Perfume> getPerfumes(Pageable pageable) {
         return perfumeRepository.findAll(pageable);
     }
 
     public Perfume getPerfumeDetail(Long perfumeId) {
-        return perfumeRepository.findById(perfumeId)
+        Perfume perfume = perfumeRepository.findById(perfumeId)
                 .orElseThrow(() -> new RuntimeException("향수를 찾을 수 없습니다."));
+        counterService.recordView(perfumeId);
+        return perfume;
     }
 
     @Transactional
 
     public Perfume savePerfume(Perfume perfume) {
-        return perfumeRepository.save(perfume);
+        Perfume saved = perfumeRepository.save(perfume);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(saved.getPerfumeId()));
+        return saved;
     }
 
     @Transactional
 
     public void deletePerfume(Long perfumeId) {
         perfumeRepository.deleteById(perfumeId);
+        eventPublisher.publishEvent(PerfumeChangedEvent.of(perfumeId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.aion.back.perfume.service;
+
+import com.aion.back.perfume.repository.PerfumeImageRepository;
+import com.aion.back.perfume.repository.PerfumeThumbnailProjection;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 향수 썸네일 일괄 조회
+ *
+ * 목록 화면에서 향수마다 findByPerfumeAndIsThumbnailTrue를 부르던 N+1을 없애기 위해
+ * 캐시에 없는 ID만 모아 IN 쿼리 한 번으로 가져온다.
+ * 썸네일이 없는 향수도 빈 값으로 캐시해서 같은 ID로 다시 조회하지 않는다.
+ */
+@Slf4j
+@Service
+public class PerfumeThumbnailResolver {
+
+    private final PerfumeImageRepository perfumeImageRepository;
+
+    // perfumeId → 썸네일 URL (없으면 Optional.empty())
+    private final Cache<Long, Optional<String>> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(30, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+
+    private final Counter cacheHits;
+    private final Counter dbLookups;
+
+    public PerfumeThumbnailResolver(PerfumeImageRepository perfumeImageRepository, MeterRegistry meterRegistry) {
+        this.perfumeImageRepository = perfumeImageRepository;
+        this.cacheHits = Counter.builder("perfume.thumbnail.lookups")
+                .description("썸네일 조회 건수 (캐시 / DB)")
+                .tag("source", "cache")
+                .register(meterRegistry);
+        this.dbLookups = Counter.builder("perfume.thumbnail.lookups")
+                .description("썸네일 조회 건수 (캐시 / DB)")
+                .tag("source", "db")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "perfumeThumbnails");
+    }
+
+    /**
+     * 여러 향수의 썸네일 URL 조회
+     * 썸네일이 없는 향수는 결과 맵에 포함되지 않음
+     */
+    public Map<Long, String> resolve(Collection<Long> perfumeIds) {
+        Map<Long, String> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+
+        for (Long perfumeId : perfumeIds) {
+            if (perfumeId == null) continue;
+            Optional<String> cached = cache.getIfPresent(perfumeId);
+            if (cached == null) {
+                missing.add(perfumeId);
+            } else {
+                cacheHits.increment();
+                cached.ifPresent(url -> result.put(perfumeId, url));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            dbLookups.increment(missing.size());
+            Map<Long, String> loaded = new HashMap<>();
+            for (PerfumeThumbnailProjection row : perfumeImageRepository.findThumbnailsByPerfumeIds(missing)) {
+                loaded.putIfAbsent(row.getPerfumeId(), row.getImageUrl()); // 썸네일이 여러 장이면 첫 장
+            }
+            for (Long perfumeId : missing) {
+                String url = loaded.get(perfumeId);
+                cache.put(perfumeId, Optional.ofNullable(url));
+                if (url != null) result.put(perfumeId, url);
+            }
+        }
+
+        return result;
+    }
+
+    public Optional<String> resolve(Long perfumeId) {
+        return Optional.ofNullable(resolve(List.of(perfumeId)).get(perfumeId));
+    }
+
+    // 커밋 후 무효화 (커밋 전에 비우면 동시 요청이 옛 썸네일을 다시 캐시함)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPerfumeChanged(PerfumeChangedEvent event) {
+        cache.invalidateAll(event.perfumeIds());
+    }
+}
@@ -1,7 +1,9 @@
 package com.aion.back.point.controller;
+import com.aion.back.common.export.NdjsonExporter;
+import com.aion.back.common.pagination.CursorPage;
 import com.aion.back.common.response.ApiResponse;
-import com.aion.back.member.entity.Member;
-import com.aion.back.member.service.MemberService;
+import com.aion.back.common.security.AuthMember;
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.point.dto.response.PointBalanceResponse;
 import com.aion.back.point.dto.response.PointHistoryResponse;
 import com.aion.back.point.service.PointService;
@@ -9,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 @RestController
 @RequestMapping("/api/points")
@@ -17,23 +20,38 @@ public class PointController {
 
     private final PointService pointService;
 
-    private final MemberService memberService;
-
     @GetMapping("/balance")
 
     public ResponseEntity<ApiResponse<PointBalanceResponse>> getBalance(
-            @RequestHeader(HttpHeaders.AUTHORIZATION) String token) {
-        Member member = memberService.getMemberEntityByToken(token);
-        PointBalanceResponse balanceResponse = pointService.getBalance(member);
+            @AuthMember AuthPrincipal principal) {
+        PointBalanceResponse balanceResponse = pointService.getBalance(principal.userId());
         return ResponseEntity.ok(ApiResponse.success("포인트 잔액 조회 성공", balanceResponse));
     }
 
     @GetMapping("/history")
 
     public ResponseEntity<ApiResponse<List<PointHistoryResponse>>> getHistory(
-            @RequestHeader(HttpHeaders.AUTHORIZATION) String token) {
-        Member member = memberService.getMemberEntityByToken(token);
-        List<PointHistoryResponse> history = pointService.getPointHistory(member.getUserId());
+            @AuthMember AuthPrincipal principal) {
+        List<PointHistoryResponse> history = pointService.getPointHistory(principal.userId());
         return ResponseEntity.ok(ApiResponse.success("포인트 내역 조회 성공", history));
     }
+
+    @GetMapping("/history/page")
+
+    public ResponseEntity<ApiResponse<CursorPage<PointHistoryResponse>>> getHistoryPage(
+            @AuthMember AuthPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<PointHistoryResponse> page = pointService.getPointHistoryPage(principal.userId(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("포인트 내역 조회 성공", page));
+    }
+
+    @GetMapping("/history/export")
+
+    public ResponseEntity<StreamingResponseBody> exportHistory(@AuthMember AuthPrincipal principal) {
+        return ResponseEntity.ok()
+                .contentType(NdjsonExporter.NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"point-history.ndjson\"")
+                .body(pointService.exportPointHistory(principal.userId()));
+    }
 }
\ No newline at end of file
@@ -1,15 +1,30 @@
 package com.aion.back.point.dto.response;
+import com.aion.back.point.repository.PointLedgerJdbcRepository.BalanceView;
 import lombok.Builder;
 import lombok.Getter;
+import java.time.LocalDateTime;
 @Getter
 @Builder
 public class PointBalanceResponse {
 
     private int totalPoints;
 
+    // 가장 빠른 소멸 예정일과 그날 소멸될 포인트 (없으면 null / 0)
+    private LocalDateTime nextExpireAt;
+
+    private int nextExpirePoints;
+
     public static PointBalanceResponse of(int totalPoints) {
         return PointBalanceResponse.builder()
                 .totalPoints(totalPoints)
                 .build();
     }
+
+    public static PointBalanceResponse from(BalanceView view) {
+        return PointBalanceResponse.builder()
+                .totalPoints(view.totalPoints())
+                .nextExpireAt(view.nextExpireAt())
+                .nextExpirePoints(view.nextExpirePoints())
+                .build();
+    }
 }
\ No newline at end of file
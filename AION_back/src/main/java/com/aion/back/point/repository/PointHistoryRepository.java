@@ -3,6 +3,7 @@ import com.aion.back.point.entity.Point;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 public interface PointHistoryRepository extends JpaRepository<Point, Long> {
 
@@ -10,6 +11,19 @@ public interface PointHistoryRepository extends JpaRepository<Point, Long> {
     List<Point> findByMemberUserId(@Param("userId") Long userId);
     List<Point> findByRelatedOrderId(Long orderId);
 
+    // 키셋 페이지 (created_at, point_history_id) 최신순 — 첫 페이지 / 커서 다음 페이지
+    @Query(value = "SELECT * FROM \"Points_History\" WHERE user_id = :userId "
+            + "ORDER BY created_at DESC, point_history_id DESC LIMIT :limit", nativeQuery = true)
+    List<Point> findLatestByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM \"Points_History\" WHERE user_id = :userId "
+            + "AND (created_at, point_history_id) < (:createdAt, :id) "
+            + "ORDER BY created_at DESC, point_history_id DESC LIMIT :limit", nativeQuery = true)
+    List<Point> findOlderByUserId(@Param("userId") Long userId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  @Param("limit") int limit);
+
     @Query("SELECT p FROM Point p WHERE p.member.userId = :userId AND p.status = :status ORDER BY p.createdAt DESC")
     List<Point> findByMemberUserIdAndStatus(
             @Param("userId") Long userId,
@@ -0,0 +1,266 @@
+package com.aion.back.point.repository;
+
+import com.aion.back.point.entity.Point;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * 포인트 잔액 / 이력 / 소멸 버킷 쓰기 쿼리
+ *
+ * 잔액은 "읽고 → 자바에서 계산 → 엔티티 저장" 대신 상대 UPDATE 한 번으로 바꾼다.
+ * → 같은 회원의 동시 요청에서도 이중 차감 / 적립 누락이 생기지 않음
+ * 적립분은 Point_Buckets에 소멸일과 함께 쌓이고, 사용 / 소멸은 버킷 remaining을 깎는다.
+ * 잠금 순서는 항상 Users 행 → 버킷 (사용과 소멸 스윕이 서로 기다리다 교착되지 않도록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerJdbcRepository {
+
+    private static final String DEDUCT_POINTS = """
+            UPDATE "Users" SET total_points = COALESCE(total_points, 0) - :amount
+             WHERE user_id = :userId AND COALESCE(total_points, 0) >= :amount
+            RETURNING total_points
+            """;
+
+    private static final String ADD_POINTS = """
+            UPDATE "Users" SET total_points = COALESCE(total_points, 0) + :amount
+             WHERE user_id = :userId
+            RETURNING total_points
+            """;
+
+    private static final String INSERT_POINT_HISTORY = """
+            INSERT INTO "Points_History" (user_id, amount, balance_after, reason, reason_detail,
+                                          related_order_id, status, created_at, expire_at, used_at)
+            VALUES (:userId, :amount, :balanceAfter, :reason, :reasonDetail,
+                    :relatedOrderId, CAST(:status AS point_status_enum), :createdAt, :expireAt, :usedAt)
+            """;
+
+    private static final String INSERT_BUCKET = """
+            INSERT INTO "Point_Buckets" (user_id, amount, remaining, expire_at, related_order_id)
+            VALUES (:userId, :amount, :amount, :expireAt, :relatedOrderId)
+            """;
+
+    // 소멸일이 빠른 버킷부터 누적합이 사용액에 닿을 때까지 깎는다. (FOR UPDATE는 윈도 함수와 같이 못 써서 분리)
+    // 소멸일이 지났지만 아직 스윕되지 않은 버킷은 제외 (expire_at NULL은 소멸 없음)
+    private static final String CONSUME_BUCKETS = """
+            WITH live AS (
+                SELECT bucket_id, remaining, expire_at FROM "Point_Buckets"
+                 WHERE user_id = :userId AND remaining > 0
+                   AND (expire_at IS NULL OR expire_at > NOW())
+                   FOR UPDATE
+            ), ordered AS (
+                SELECT bucket_id, remaining,
+                       SUM(remaining) OVER (ORDER BY expire_at NULLS LAST, bucket_id) AS running
+                  FROM live
+            )
+            UPDATE "Point_Buckets" b
+               SET remaining = CASE WHEN o.running <= :amount THEN 0 ELSE o.running - :amount END
+              FROM ordered o
+             WHERE b.bucket_id = o.bucket_id AND o.running - o.remaining < :amount
+            RETURNING o.remaining - b.remaining AS consumed
+            """;
+
+    private static final String FIND_EXPIRED_BUCKETS = """
+            SELECT bucket_id, user_id, expire_at FROM "Point_Buckets"
+             WHERE remaining > 0 AND expire_at <= :now
+               AND (expire_at, bucket_id) > (:afterExpireAt, :afterBucketId)
+             ORDER BY expire_at, bucket_id
+             LIMIT :limit
+            """;
+
+    // 결제 직전 회원 한 명분 소멸 대상 (스윕 전이라도 소멸일이 지난 버킷)
+    private static final String FIND_DUE_BUCKETS_OF_MEMBER = """
+            SELECT bucket_id FROM "Point_Buckets"
+             WHERE user_id = :userId AND remaining > 0 AND expire_at <= NOW()
+             ORDER BY bucket_id
+            """;
+
+    private static final String LOCK_MEMBERS = """
+            SELECT user_id FROM "Users" WHERE user_id IN (:userIds) ORDER BY user_id FOR UPDATE
+            """;
+
+    // 버킷을 0으로 만들고 회원별 소멸액만큼 잔액 차감 → 회원별 소멸액 / 차감 후 잔액
+    private static final String EXPIRE_BUCKETS = """
+            WITH live AS (
+                SELECT bucket_id, remaining FROM "Point_Buckets"
+                 WHERE bucket_id IN (:bucketIds) AND remaining > 0
+                   FOR UPDATE
+            ), expired AS (
+                UPDATE "Point_Buckets" b SET remaining = 0
+                  FROM live l
+                 WHERE b.bucket_id = l.bucket_id
+                RETURNING b.user_id, l.remaining AS amount
+            ), per_user AS (
+                SELECT user_id, SUM(amount)::int AS amount FROM expired GROUP BY user_id
+            )
+            UPDATE "Users" u SET total_points = GREATEST(COALESCE(u.total_points, 0) - p.amount, 0)
+              FROM per_user p
+             WHERE u.user_id = p.user_id
+            RETURNING u.user_id, p.amount, u.total_points
+            """;
+
+    // 가장 빠른 소멸일과 그날 소멸 예정 포인트를 버킷에서 다시 계산 (회원의 남은 버킷만 인덱스로 읽음)
+    private static final String UPSERT_SNAPSHOT = """
+            INSERT INTO "Point_Balance_Snapshots" AS s (user_id, balance, next_expire_at, next_expire_points, updated_at)
+            SELECT u.user_id, COALESCE(u.total_points, 0), n.next_expire_at,
+                   COALESCE((SELECT SUM(b.remaining) FROM "Point_Buckets" b
+                              WHERE b.user_id = u.user_id AND b.remaining > 0
+                                AND b.expire_at < date_trunc('day', n.next_expire_at) + INTERVAL '1 day'), 0),
+                   NOW()
+              FROM "Users" u
+             CROSS JOIN LATERAL (SELECT MIN(b.expire_at) AS next_expire_at FROM "Point_Buckets" b
+                                  WHERE b.user_id = u.user_id AND b.remaining > 0) n
+             WHERE u.user_id = :userId
+            ON CONFLICT (user_id) DO UPDATE
+               SET balance = EXCLUDED.balance,
+                   next_expire_at = EXCLUDED.next_expire_at,
+                   next_expire_points = EXCLUDED.next_expire_points,
+                   updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String FIND_BALANCE = """
+            SELECT COALESCE(u.total_points, 0) AS total_points, s.next_expire_at, s.next_expire_points
+              FROM "Users" u
+              LEFT JOIN "Point_Balance_Snapshots" s ON s.user_id = u.user_id
+             WHERE u.user_id = :userId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 잔액이 충분할 때만 차감하고 차감 후 잔액 반환. 부족하면 empty */
+    public OptionalInt deductPoints(Long userId, int amount) {
+        List<Integer> balance = jdbcTemplate.queryForList(DEDUCT_POINTS, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("amount", amount), Integer.class);
+        return balance.isEmpty() ? OptionalInt.empty() : OptionalInt.of(balance.get(0));
+    }
+
+    /** 적립 후 잔액 반환 */
+    public int addPoints(Long userId, int amount) {
+        return jdbcTemplate.queryForObject(ADD_POINTS, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("amount", amount), Integer.class);
+    }
+
+    public void insertPointHistories(Long userId, List<Point> histories) {
+        if (histories.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] batch = histories.stream()
+                .map(p -> historyParams(userId, p, now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_POINT_HISTORY, batch);
+    }
+
+    /** 회원별 소멸 이력 (스윕 한 묶음분을 배치 INSERT) */
+    public void insertExpiryHistories(List<ExpiredBalance> expired, String reason) {
+        if (expired.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] batch = expired.stream()
+                .map(e -> historyParams(e.userId(), Point.builder()
+                        .amount(-e.amount())
+                        .balanceAfter(e.balanceAfter())
+                        .reason(reason)
+                        .reasonDetail("유효기간 만료 " + String.format("%,d", e.amount()) + "P 소멸")
+                        .status(Point.PointStatus.EXPIRED)
+                        .build(), now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_POINT_HISTORY, batch);
+    }
+
+    public void insertBucket(Long userId, int amount, LocalDateTime expireAt, Long relatedOrderId) {
+        jdbcTemplate.update(INSERT_BUCKET, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("amount", amount)
+                .addValue("expireAt", expireAt)
+                .addValue("relatedOrderId", relatedOrderId));
+    }
+
+    /**
+     * 소멸일이 빠른 버킷부터 사용 (Users 행을 먼저 차감해 잠근 뒤 호출)
+     * @return 실제로 깎은 포인트 (버킷 합이 잔액과 어긋나 있으면 amount보다 작을 수 있음)
+     */
+    public int consumeBuckets(Long userId, int amount) {
+        return jdbcTemplate.queryForList(CONSUME_BUCKETS, new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("amount", amount), Integer.class)
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /** 소멸 대상 버킷 키셋 조회 ((afterExpireAt, afterBucketId) 다음부터 limit건) */
+    public List<BucketRef> findExpiredBuckets(LocalDateTime now, LocalDateTime afterExpireAt, long afterBucketId, int limit) {
+        return jdbcTemplate.query(FIND_EXPIRED_BUCKETS, new MapSqlParameterSource()
+                        .addValue("now", now)
+                        .addValue("afterExpireAt", afterExpireAt)
+                        .addValue("afterBucketId", afterBucketId)
+                        .addValue("limit", limit),
+                (rs, i) -> new BucketRef(
+                        rs.getLong("bucket_id"),
+                        rs.getLong("user_id"),
+                        rs.getObject("expire_at", LocalDateTime.class)));
+    }
+
+    /** 회원의 소멸일이 지났지만 아직 스윕되지 않은 버킷 (회원 행을 잠근 뒤 호출) */
+    public List<Long> findDueBucketIds(Long userId) {
+        return jdbcTemplate.queryForList(FIND_DUE_BUCKETS_OF_MEMBER, new MapSqlParameterSource("userId", userId), Long.class);
+    }
+
+    /** user_id 순으로 회원 행 잠금 (소멸 스윕이 버킷보다 먼저 잡음) */
+    public void lockMembers(Collection<Long> userIds) {
+        jdbcTemplate.queryForList(LOCK_MEMBERS, new MapSqlParameterSource("userIds", userIds), Long.class);
+    }
+
+    public List<ExpiredBalance> expireBuckets(Collection<Long> bucketIds) {
+        return jdbcTemplate.query(EXPIRE_BUCKETS, new MapSqlParameterSource("bucketIds", bucketIds),
+                (rs, i) -> new ExpiredBalance(
+                        rs.getLong("user_id"),
+                        rs.getInt("amount"),
+                        rs.getInt("total_points")));
+    }
+
+    /** 잔액 스냅샷 갱신 (소멸 스윕은 같은 트랜잭션에서, 결제 / 적립은 커밋 후) */
+    public void refreshSnapshots(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT, userIds.stream()
+                .sorted()
+                .map(id -> new MapSqlParameterSource("userId", id))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    public Optional<BalanceView> findBalance(Long userId) {
+        return jdbcTemplate.query(FIND_BALANCE, new MapSqlParameterSource("userId", userId),
+                        (rs, i) -> new BalanceView(
+                                rs.getInt("total_points"),
+                                rs.getObject("next_expire_at", LocalDateTime.class),
+                                rs.getInt("next_expire_points")))
+                .stream().findFirst();
+    }
+
+    private MapSqlParameterSource historyParams(Long userId, Point p, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("amount", p.getAmount())
+                .addValue("balanceAfter", p.getBalanceAfter())
+                .addValue("reason", p.getReason())
+                .addValue("reasonDetail", p.getReasonDetail())
+                .addValue("relatedOrderId", p.getRelatedOrderId())
+                .addValue("status", p.getStatus().name())
+                .addValue("createdAt", now)
+                .addValue("expireAt", p.getExpireAt())
+                .addValue("usedAt", p.getUsedAt());
+    }
+
+    public record BucketRef(long bucketId, long userId, LocalDateTime expireAt) {}
+
+    public record ExpiredBalance(long userId, int amount, int balanceAfter) {}
+
+    public record BalanceView(int totalPoints, LocalDateTime nextExpireAt, int nextExpirePoints) {}
+}
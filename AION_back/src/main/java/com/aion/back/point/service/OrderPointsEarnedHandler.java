@@ -0,0 +1,40 @@
+package com.aion.back.point.service;
+
+import com.aion.back.outbox.service.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 포인트 적립 (아웃박스)
+ * 결제 트랜잭션에서는 적재만 하고, Users 잔액 갱신 + 이력 기록은 커밋 후 여기서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPointsEarnedHandler implements OutboxHandler<OrderPointsEarnedHandler.Payload> {
+
+    public static final String TYPE = "ORDER_POINTS_EARNED";
+
+    private final PointService pointService;
+
+    public record Payload(Long userId, Long orderId, String orderNumber, int finalAmount) {}
+
+    /** 주문당 한 번만 적립 */
+    public static String idempotencyKey(Long orderId) {
+        return "order-points:" + orderId;
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public Class<Payload> payloadType() {
+        return Payload.class;
+    }
+
+    @Override
+    public void handle(Payload payload) {
+        pointService.earnOrderPoints(payload.userId(), payload.orderId(), payload.orderNumber(), payload.finalAmount());
+    }
+}
@@ -0,0 +1,92 @@
+package com.aion.back.point.service;
+
+import com.aion.back.point.repository.PointLedgerJdbcRepository;
+import com.aion.back.point.repository.PointLedgerJdbcRepository.BucketRef;
+import com.aion.back.point.repository.PointLedgerJdbcRepository.ExpiredBalance;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 포인트 소멸 스윕
+ *
+ * point.ledger.expiry-sweep-interval-ms 마다 소멸일이 지난 버킷을 (expire_at, bucket_id) 키셋으로
+ * point.ledger.expiry-batch-size 건씩 읽어, 묶음마다 한 트랜잭션에서
+ * 버킷 소멸 → 회원 잔액 차감 → 소멸 이력 → 잔액 스냅샷 갱신까지 처리한다.
+ */
+@Slf4j
+@Service
+public class PointExpiryService {
+
+    static final String EXPIRY_REASON = "포인트 소멸";
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PointLedgerJdbcRepository pointLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter expiredCounter;
+
+    public PointExpiryService(PointLedgerJdbcRepository pointLedgerRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${point.ledger.expiry-batch-size:1000}") int batchSize,
+                              MeterRegistry meterRegistry) {
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.expiredCounter = Counter.builder("point.ledger.expired").baseUnit("points").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${point.ledger.expiry-sweep-interval-ms:3600000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime afterExpireAt = KEYSET_START;
+        long afterBucketId = 0;
+        int members = 0;
+        long points = 0;
+
+        try {
+            while (true) {
+                List<BucketRef> buckets = pointLedgerRepository.findExpiredBuckets(now, afterExpireAt, afterBucketId, batchSize);
+                if (buckets.isEmpty()) break;
+
+                List<ExpiredBalance> expired = transactionTemplate.execute(status -> expireBatch(buckets));
+                members += expired.size();
+                points += expired.stream().mapToLong(ExpiredBalance::amount).sum();
+
+                BucketRef last = buckets.get(buckets.size() - 1);
+                afterExpireAt = last.expireAt();
+                afterBucketId = last.bucketId();
+                if (buckets.size() < batchSize) break;
+            }
+        } catch (Exception e) {
+            // 처리된 묶음은 커밋됨, 나머지는 다음 주기에
+            log.warn("포인트 소멸 스윕 실패: {}", e.getMessage());
+        }
+
+        if (points > 0) {
+            expiredCounter.increment(points);
+            log.info("포인트 소멸 - 회원 {}명, {}P", members, points);
+        }
+    }
+
+    private List<ExpiredBalance> expireBatch(List<BucketRef> buckets) {
+        // 회원 행을 먼저 잠가야 결제 중 포인트 사용(회원 → 버킷 순)과 교착되지 않음
+        Set<Long> userIds = new TreeSet<>();
+        buckets.forEach(b -> userIds.add(b.userId()));
+        pointLedgerRepository.lockMembers(userIds);
+
+        List<ExpiredBalance> expired = pointLedgerRepository.expireBuckets(buckets.stream().map(BucketRef::bucketId).toList());
+        pointLedgerRepository.insertExpiryHistories(expired, EXPIRY_REASON);
+        pointLedgerRepository.refreshSnapshots(userIds);
+        return expired;
+    }
+}
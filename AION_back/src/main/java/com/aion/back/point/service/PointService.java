@@ -1,73 +1,154 @@
 package com.aion.back.point.service;
-import com.aion.back.member.entity.Member;
-import com.aion.back.member.repository.MemberRepository;
+import com.aion.back.common.export.NdjsonExporter;
+import com.aion.back.common.pagination.CursorPage;
+import com.aion.back.common.pagination.KeysetCursor;
 import com.aion.back.point.dto.response.PointBalanceResponse;
 import com.aion.back.point.dto.response.PointHistoryResponse;
 import com.aion.back.point.entity.Point;
 import com.aion.back.point.repository.PointHistoryRepository;
+import com.aion.back.point.repository.PointLedgerJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
     private final PointHistoryRepository pointHistoryRepository;
 
-    private final MemberRepository memberRepository;
+    private final PointLedgerJdbcRepository pointLedgerRepository;
 
-    @Transactional
+    private final NdjsonExporter ndjsonExporter;
+
+    // PointHistoryResponse와 같은 필드로 DB에서 JSON 한 줄씩 생성
+    private static final String EXPORT_HISTORY = """
+            SELECT json_build_object(
+                       'pointHistoryId', point_history_id, 'amount', amount, 'balanceAfter', balance_after,
+                       'reason', reason, 'reasonDetail', reason_detail, 'relatedOrderId', related_order_id,
+                       'status', COALESCE(status::text, 'AVAILABLE'), 'createdAt', created_at,
+                       'expireAt', expire_at, 'usedAt', used_at)::text
+              FROM "Points_History"
+             WHERE user_id = :userId
+             ORDER BY created_at DESC, point_history_id DESC
+            """;
 
-    public void usePoints(Member member, int pointsToUse, Long orderId) {
-        if (pointsToUse <= 0) return;
-        int currentBalance = member.getTotalPoints();
-        if (currentBalance < pointsToUse) {
-            throw new IllegalArgumentException("보유 포인트가 부족합니다. (보유: "
-                    + currentBalance + "P, 요청: " + pointsToUse + "P)");
+    /**
+     * 주문 결제 포인트 차감 (결제 트랜잭션 안에서 호출)
+     * 회원 행을 잠근 뒤 소멸일이 지난 버킷을 먼저 소멸시키고 (스윕 전이라도 만료 포인트는 쓸 수 없음)
+     * 잔액 조건부 상대 UPDATE → 동시 결제가 먼저 차감했으면 실패
+     * 차감분은 소멸일이 빠른 적립 버킷부터 사용하고, 버킷에서 다 깎지 못하면 전체 롤백한다. (FIFO)
+     *
+     * @return 차감 후 잔액
+     */
+    @Transactional
+    public int usePoints(Long userId, int pointsToUse, Long orderId, String orderNumber) {
+        // 잠금 순서는 스윕과 같이 회원 행 → 버킷
+        pointLedgerRepository.lockMembers(List.of(userId));
+        List<Long> dueBuckets = pointLedgerRepository.findDueBucketIds(userId);
+        if (!dueBuckets.isEmpty()) {
+            pointLedgerRepository.insertExpiryHistories(
+                    pointLedgerRepository.expireBuckets(dueBuckets), PointExpiryService.EXPIRY_REASON);
         }
-        int balanceAfter = currentBalance - pointsToUse;
+
+        int balanceAfter = pointLedgerRepository.deductPoints(userId, pointsToUse)
+                .orElseThrow(() -> new RuntimeException("보유 포인트가 부족합니다. (요청: " + pointsToUse + "P)"));
         Point useRecord = Point.builder()
-                .member(member)
                 .amount(-pointsToUse)
                 .balanceAfter(balanceAfter)
                 .reason("포인트 사용")
-                .reasonDetail("주문 결제 포인트 차감 (주문 ID: " + orderId + ")")
+                .reasonDetail("주문 결제 포인트 차감 (" + orderNumber + ")")
                 .relatedOrderId(orderId)
                 .status(Point.PointStatus.USED)
                 .usedAt(LocalDateTime.now())
                 .build();
-        pointHistoryRepository.save(useRecord);
-        member.deductPoints(pointsToUse);
-        memberRepository.save(member);
+        pointLedgerRepository.insertPointHistories(userId, List.of(useRecord));
+
+        int consumed = pointLedgerRepository.consumeBuckets(userId, pointsToUse);
+        if (consumed != pointsToUse) {
+            log.error("포인트 버킷 합계 불일치 - userId: {}, 사용: {}, 버킷 차감: {}", userId, pointsToUse, consumed);
+            throw new RuntimeException("포인트 잔액을 확인할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        refreshSnapshotAfterCommit(userId);
+        return balanceAfter;
     }
 
+    /**
+     * 주문 포인트 적립 (결제 금액의 0.1%)
+     * 결제 트랜잭션이 아니라 아웃박스 디스패처에서 호출된다. (OrderPointsEarnedHandler)
+     *
+     * @return 적립 포인트
+     */
     @Transactional
-
-    public int earnPoints(Member member, int finalAmount, Long orderId) {
+    public int earnOrderPoints(Long userId, Long orderId, String orderNumber, int finalAmount) {
         int pointsToEarn = (int) Math.floor(finalAmount * 0.001);
         if (pointsToEarn <= 0) return 0;
-        int currentBalance = member.getTotalPoints();
-        int balanceAfter = currentBalance + pointsToEarn;
+        int balanceAfter = pointLedgerRepository.addPoints(userId, pointsToEarn);
+        LocalDateTime expireAt = LocalDateTime.now().plusYears(1);
         Point earnRecord = Point.builder()
-                .member(member)
                 .amount(pointsToEarn)
                 .balanceAfter(balanceAfter)
                 .reason("주문 포인트 적립")
                 .reasonDetail("결제 금액 ₩" + String.format("%,d", finalAmount)
-                        + "의 0.1% 적립 (주문 ID: " + orderId + ")")
+                        + "의 0.1% 적립 (" + orderNumber + ")")
                 .relatedOrderId(orderId)
                 .status(Point.PointStatus.AVAILABLE)
-                .expireAt(LocalDateTime.now().plusYears(1))
+                .expireAt(expireAt)
                 .build();
-        pointHistoryRepository.save(earnRecord);
-        member.addPoints(pointsToEarn);
-        memberRepository.save(member);
+        pointLedgerRepository.insertPointHistories(userId, List.of(earnRecord));
+        pointLedgerRepository.insertBucket(userId, pointsToEarn, expireAt, orderId);
+        refreshSnapshotAfterCommit(userId);
         return pointsToEarn;
     }
 
+    /**
+     * 잔액 스냅샷은 커밋 후 갱신 (결제 트랜잭션이 커밋 전까지 스냅샷 행 잠금과 재계산 쿼리까지 쥐고 있지 않도록)
+     * 실패해도 잔액 자체는 Users.total_points 기준이라 다음 변경 때 다시 맞춰진다.
+     */
+    private void refreshSnapshotAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pointLedgerRepository.refreshSnapshots(List.of(userId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    pointLedgerRepository.refreshSnapshots(List.of(userId));
+                } catch (Exception e) {
+                    log.warn("포인트 스냅샷 갱신 실패 - userId: {}, 사유: {}", userId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /** 포인트 내역 키셋 페이지 (cursor는 이전 응답의 nextCursor, 첫 페이지는 null) */
+    @Transactional(readOnly = true)
+
+    public CursorPage<PointHistoryResponse> getPointHistoryPage(Long userId, String cursor, Integer size) {
+        int limit = CursorPage.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Point> rows = after == null
+                ? pointHistoryRepository.findLatestByUserId(userId, limit + 1)
+                : pointHistoryRepository.findOlderByUserId(userId, after.createdAt(), after.id(), limit + 1);
+        return CursorPage.of(rows, limit,
+                p -> new KeysetCursor(p.getCreatedAt(), p.getPointHistoryId()),
+                PointHistoryResponse::from);
+    }
+
+    /** 포인트 전체 내역 NDJSON */
+    public StreamingResponseBody exportPointHistory(Long userId) {
+        return ndjsonExporter.stream(EXPORT_HISTORY, new MapSqlParameterSource("userId", userId));
+    }
+
     @Transactional(readOnly = true)
 
     public List<PointHistoryResponse> getPointHistory(Long userId) {
@@ -78,9 +159,12 @@ public class PointService {
                 .collect(Collectors.toList());
     }
 
+    /** 잔액 + 다음 소멸 예정 (회원 행과 스냅샷 PK 조회, 이력 길이와 무관) */
     @Transactional(readOnly = true)
 
-    public PointBalanceResponse getBalance(Member member) {
-        return PointBalanceResponse.of(member.getTotalPoints());
+    public PointBalanceResponse getBalance(Long userId) {
+        return pointLedgerRepository.findBalance(userId)
+                .map(PointBalanceResponse::from)
+                .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
     }
 }
\ No newline at end of file
@@ -0,0 +1,370 @@
+package com.aion.back.recommendation.service;
+
+import com.aion.back.perfume.repository.PerfumeCatalogProjection;
+import com.aion.back.perfume.repository.PerfumeRepository;
+import com.aion.back.perfume.repository.PerfumeSortKeyProjection;
+import com.aion.back.perfume.repository.PerfumeTagProjection;
+import com.aion.back.perfume.service.PerfumeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 목록용 인메모리 카탈로그 인덱스
+ *
+ * 활성 향수를 0..N-1 순번(ordinal)으로 배치하고, 성별 / 가격 구간 / 태그 / 계절 / 상황별
+ * 역색인(posting)을 BitSet으로 보관한다. 순번이 촘촘하므로 BitSet 한 개가 향수 수/8 바이트면 충분하다.
+ * 필터 조합은 BitSet 교집합으로 풀고, 정렬·페이지 분할까지 쿼리 없이 처리한다.
+ *
+ * 스냅샷은 불변 객체로 통째로 교체하므로 읽기 쪽은 락이 필요 없다.
+ *
+ * 관리자 수정은 PerfumeChangedEvent(커밋 후)로 바로 반영하고, 판매량 / 찜 수 / 평점처럼
+ * 결제·집계 반영마다 바뀌는 정렬 키는 recommendation.catalog-index.sort-refresh-interval-ms 마다 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogIndex {
+
+    // 가격 구간 폭 (원). 구간 경계에 걸친 향수는 실제 가격으로 한 번 더 확인
+    static final int PRICE_BUCKET_WIDTH = 50_000;
+
+    private static final String SEASON_TAG_TYPE = "SEASON";
+    private static final String OCCASION_TAG_TYPE = "OCCASION";
+
+    private final PerfumeRepository perfumeRepository;
+
+    // 갱신은 관리자 쓰기 때만 발생 → 단일 락으로 직렬화
+    private final Object writeLock = new Object();
+    private Map<Long, Entry> entries = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    // ══════════════════════════════════════════════════════════════
+    // 인덱스 적재 / 갱신
+    // ══════════════════════════════════════════════════════════════
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            Map<Long, List<PerfumeTagProjection>> tagsByPerfume = perfumeRepository.findActiveCatalogTags()
+                    .stream()
+                    .collect(Collectors.groupingBy(PerfumeTagProjection::getPerfumeId));
+
+            Map<Long, Entry> loaded = new HashMap<>();
+            for (PerfumeCatalogProjection row : perfumeRepository.findActiveCatalogEntries()) {
+                loaded.put(row.getPerfumeId(),
+                        Entry.of(row, tagsByPerfume.getOrDefault(row.getPerfumeId(), List.of())));
+            }
+
+            synchronized (writeLock) {
+                entries = loaded;
+                snapshot = Snapshot.build(entries.values());
+            }
+            log.info("카탈로그 인덱스 구축 완료 - 향수 {} 개 ({}ms)",
+                    loaded.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            // 인덱스가 없으면 RecommendationService가 DB 조회로 동작
+            log.error("카탈로그 인덱스 구축 실패 - DB 조회로 대체합니다", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPerfumeChanged(PerfumeChangedEvent event) {
+        if (snapshot == null) return;
+        try {
+            synchronized (writeLock) {
+                Map<Long, Entry> next = new HashMap<>(entries);
+                for (Long perfumeId : event.perfumeIds()) {
+                    Optional<PerfumeCatalogProjection> row = perfumeRepository.findActiveCatalogEntry(perfumeId);
+                    if (row.isPresent()) {
+                        next.put(perfumeId, Entry.of(row.get(), perfumeRepository.findCatalogTags(perfumeId)));
+                    } else {
+                        next.remove(perfumeId); // 삭제 또는 단종
+                    }
+                }
+                entries = next;
+                snapshot = Snapshot.build(entries.values());
+            }
+            log.debug("카탈로그 인덱스 갱신 - perfumeIds: {}", event.perfumeIds());
+        } catch (Exception e) {
+            log.error("카탈로그 인덱스 갱신 실패 - perfumeIds: {}", event.perfumeIds(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${recommendation.catalog-index.sort-refresh-interval-ms:300000}",
+               fixedDelayString = "${recommendation.catalog-index.sort-refresh-interval-ms:300000}")
+    public void refreshSortKeys() {
+        if (snapshot == null) return;
+        try {
+            List<PerfumeSortKeyProjection> rows = perfumeRepository.findActiveCatalogSortKeys();
+            int changed = 0;
+            synchronized (writeLock) {
+                Map<Long, Entry> next = new HashMap<>(entries);
+                for (PerfumeSortKeyProjection row : rows) {
+                    Entry current = next.get(row.getPerfumeId());
+                    if (current == null) continue; // 새 향수는 PerfumeChangedEvent로 추가됨
+                    Entry updated = current.withSortKeys(row.getAvgRating(), row.getSalesCount(), row.getWishlistCount());
+                    if (!updated.equals(current)) {
+                        next.put(row.getPerfumeId(), updated);
+                        changed++;
+                    }
+                }
+                if (changed > 0) {
+                    entries = next;
+                    snapshot = Snapshot.build(entries.values());
+                }
+            }
+            log.debug("카탈로그 정렬 키 갱신 - 변경 {} 개", changed);
+        } catch (Exception e) {
+            log.warn("카탈로그 정렬 키 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public int size() {
+        Snapshot s = snapshot;
+        return s == null ? 0 : s.entries.length;
+    }
+
+    // ══════════════════════════════════════════════════════════════
+    // 조회
+    // ══════════════════════════════════════════════════════════════
+
+    /**
+     * 필터에 맞는 향수 ID를 정렬·페이지 분할해서 반환
+     * totalElements는 필터 적용 후 전체 건수
+     */
+    public Page<Long> search(Filter filter, Pageable pageable) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            throw new IllegalStateException("카탈로그 인덱스가 아직 준비되지 않았습니다.");
+        }
+
+        BitSet hits = s.match(filter);
+        List<Entry> matched = new ArrayList<>(hits.cardinality());
+        for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+            matched.add(s.entries[i]);
+        }
+        matched.sort(comparatorFor(pageable.getSort()));
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<Long> pageIds = matched.subList(from, to).stream()
+                .map(Entry::perfumeId)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(pageIds, pageable, matched.size());
+    }
+
+    /** 검색 조건. 태그는 모두 포함(AND), 계절/상황은 하나라도 포함(OR) */
+    public record Filter(
+            String search,
+            List<String> tags,
+            String gender,
+            List<String> seasons,
+            List<String> occasions,
+            Integer minPrice,
+            Integer maxPrice) {
+    }
+
+    private static Comparator<Entry> comparatorFor(Sort sort) {
+        Comparator<Entry> cmp = null;
+        for (Sort.Order order : sort) {
+            Comparator<Entry> c = switch (order.getProperty()) {
+                case "salePrice", "price" -> keyed(Entry::effectivePrice, order);
+                case "avgRating" -> keyed(Entry::avgRating, order);
+                case "salesCount" -> keyed(Entry::salesCount, order);
+                case "wishlistCount" -> keyed(Entry::wishlistCount, order);
+                case "createdAt" -> keyed(Entry::createdAt, order);
+                default -> null;
+            };
+            if (c != null) cmp = cmp == null ? c : cmp.thenComparing(c);
+        }
+        if (cmp == null) {
+            cmp = keyed(Entry::createdAt, Sort.Order.desc("createdAt"));
+        }
+        // 동률이면 최신 ID 우선 → 페이지 간 순서 고정
+        return cmp.thenComparing(Entry::perfumeId, Comparator.reverseOrder());
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<Entry> keyed(
+            Function<Entry, T> key, Sort.Order order) {
+        Comparator<T> direction = order.isAscending() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        return Comparator.comparing(key, Comparator.nullsLast(direction));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ══════════════════════════════════════════════════════════════
+    // 내부 구조
+    // ══════════════════════════════════════════════════════════════
+
+    private record Entry(
+            Long perfumeId,
+            String haystack,
+            String gender,
+            Integer effectivePrice,
+            Double avgRating,
+            Integer salesCount,
+            Integer wishlistCount,
+            LocalDateTime createdAt,
+            Set<String> tags,
+            Set<String> seasons,
+            Set<String> occasions) {
+
+        Entry withSortKeys(Double avgRating, Integer salesCount, Integer wishlistCount) {
+            return new Entry(perfumeId, haystack, gender, effectivePrice, avgRating, salesCount, wishlistCount,
+                    createdAt, tags, seasons, occasions);
+        }
+
+        static Entry of(PerfumeCatalogProjection row, List<PerfumeTagProjection> tagRows) {
+            Set<String> tags = new HashSet<>();
+            Set<String> seasons = new HashSet<>();
+            Set<String> occasions = new HashSet<>();
+            for (PerfumeTagProjection t : tagRows) {
+                String name = normalize(t.getTagName());
+                if (name.isEmpty()) continue;
+                tags.add(name);
+                if (SEASON_TAG_TYPE.equalsIgnoreCase(t.getTagType())) seasons.add(name);
+                if (OCCASION_TAG_TYPE.equalsIgnoreCase(t.getTagType())) occasions.add(name);
+            }
+
+            // applyFilters와 동일하게 이름 / 영문명 / 브랜드명을 검색 대상으로 사용
+            String haystack = String.join(" ",
+                    row.getName() != null ? row.getName() : "",
+                    row.getNameEn() != null ? row.getNameEn() : "",
+                    row.getBrandName() != null ? row.getBrandName() : ""
+            ).toLowerCase(Locale.ROOT);
+
+            return new Entry(
+                    row.getPerfumeId(),
+                    haystack,
+                    normalize(row.getGender()),
+                    row.getSalePrice() != null ? row.getSalePrice() : row.getPrice(),
+                    row.getAvgRating(),
+                    row.getSalesCount(),
+                    row.getWishlistCount(),
+                    row.getCreatedAt(),
+                    tags,
+                    seasons,
+                    occasions);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Entry[] entries;
+        private final BitSet all;
+        private final Map<String, BitSet> byGender = new HashMap<>();
+        private final Map<String, BitSet> byTag = new HashMap<>();
+        private final Map<String, BitSet> bySeason = new HashMap<>();
+        private final Map<String, BitSet> byOccasion = new HashMap<>();
+        private final Map<Integer, BitSet> byPriceBucket = new HashMap<>();
+
+        private Snapshot(Entry[] entries) {
+            this.entries = entries;
+            this.all = new BitSet(entries.length);
+            this.all.set(0, entries.length);
+        }
+
+        static Snapshot build(Collection<Entry> source) {
+            Snapshot s = new Snapshot(source.toArray(new Entry[0]));
+            for (int ordinal = 0; ordinal < s.entries.length; ordinal++) {
+                Entry e = s.entries[ordinal];
+                if (!e.gender().isEmpty()) post(s.byGender, e.gender(), ordinal);
+                if (e.effectivePrice() != null) post(s.byPriceBucket, bucketOf(e.effectivePrice()), ordinal);
+                for (String tag : e.tags()) post(s.byTag, tag, ordinal);
+                for (String season : e.seasons()) post(s.bySeason, season, ordinal);
+                for (String occasion : e.occasions()) post(s.byOccasion, occasion, ordinal);
+            }
+            return s;
+        }
+
+        private static <K> void post(Map<K, BitSet> postings, K key, int ordinal) {
+            postings.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+        }
+
+        private static int bucketOf(int price) {
+            return Math.max(price, 0) / PRICE_BUCKET_WIDTH;
+        }
+
+        BitSet match(Filter f) {
+            BitSet hits = (BitSet) all.clone();
+
+            if (f.gender() != null && !f.gender().isBlank()) {
+                and(hits, byGender.get(normalize(f.gender())));
+            }
+            if (f.tags() != null) {
+                for (String tag : f.tags()) {
+                    if (!normalize(tag).isEmpty()) and(hits, byTag.get(normalize(tag)));
+                }
+            }
+            andAny(hits, bySeason, f.seasons());
+            andAny(hits, byOccasion, f.occasions());
+
+            if (f.minPrice() != null || f.maxPrice() != null) {
+                int minBucket = f.minPrice() != null ? bucketOf(f.minPrice()) : 0;
+                int maxBucket = f.maxPrice() != null ? bucketOf(f.maxPrice()) : Integer.MAX_VALUE;
+                BitSet inRange = new BitSet(entries.length);
+                byPriceBucket.forEach((bucket, postings) -> {
+                    if (bucket >= minBucket && bucket <= maxBucket) inRange.or(postings);
+                });
+                hits.and(inRange);
+                // 경계 구간만 실제 가격 확인
+                for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+                    int bucket = bucketOf(entries[i].effectivePrice());
+                    if (bucket != minBucket && bucket != maxBucket) continue;
+                    int price = entries[i].effectivePrice();
+                    if ((f.minPrice() != null && price < f.minPrice())
+                            || (f.maxPrice() != null && price > f.maxPrice())) {
+                        hits.clear(i);
+                    }
+                }
+            }
+
+            if (f.search() != null && !f.search().isEmpty()) {
+                String needle = f.search().toLowerCase(Locale.ROOT);
+                for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+                    if (!entries[i].haystack().contains(needle)) hits.clear(i);
+                }
+            }
+            return hits;
+        }
+
+        private static void and(BitSet hits, BitSet postings) {
+            if (postings == null) hits.clear();
+            else hits.and(postings);
+        }
+
+        private static void andAny(BitSet hits, Map<String, BitSet> postings, List<String> keys) {
+            if (keys == null || keys.isEmpty()) return;
+            BitSet union = new BitSet();
+            for (String key : keys) {
+                BitSet p = postings.get(normalize(key));
+                if (p != null) union.or(p);
+            }
+            hits.and(union);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.aion.back.recommendation.service;
 import com.aion.back.perfume.entity.Perfume;
 import com.aion.back.perfume.repository.PerfumeRepository;
+import com.aion.back.perfume.service.PerfumeCounterService;
+import com.aion.back.perfume.service.PerfumeThumbnailResolver;
 import com.aion.back.recommendation.dto.response.RecommendationResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +11,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -21,7 +26,11 @@ public class RecommendationService {
 
     private final PerfumeRepository perfumeRepository;
 
-    private final com.aion.back.perfume.repository.PerfumeImageRepository perfumeImageRepository;
+    private final PerfumeThumbnailResolver thumbnailResolver;
+
+    private final CatalogIndex catalogIndex;
+
+    private final PerfumeCounterService counterService;
 
     /*
     public Page<RecommendationResponse> getRecommendations(
@@ -54,6 +63,38 @@ public class RecommendationService {
             Integer maxPrice,
             Pageable pageable) {
 
+        if (!catalogIndex.isReady()) {
+            return getRecommendationsFromDb(search, tags, gender, seasons, occasions, minPrice, maxPrice, pageable);
+        }
+
+        // 필터·정렬·페이지 분할은 인덱스에서, 본문은 해당 페이지 ID만 한 번에 조회
+        Page<Long> ids = catalogIndex.search(
+                new CatalogIndex.Filter(search, tags, gender, seasons, occasions, minPrice, maxPrice),
+                pageable);
+
+        Map<Long, Perfume> perfumesById = perfumeRepository.findWithBrandByPerfumeIdIn(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(Perfume::getPerfumeId, Function.identity()));
+
+        List<RecommendationResponse> responses = toResponses(ids.getContent().stream()
+                .map(perfumesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+
+        return new PageImpl<>(responses, pageable, ids.getTotalElements());
+    }
+
+    // 인덱스 구축 전(기동 직후 / 구축 실패) 사용하는 DB 조회 경로
+    private Page<RecommendationResponse> getRecommendationsFromDb(
+            String search,
+            List<String> tags,
+            String gender,
+            List<String> seasons,
+            List<String> occasions,
+            Integer minPrice,
+            Integer maxPrice,
+            Pageable pageable) {
+
         Page<Perfume> perfumes;
 
         if (tags != null && !tags.isEmpty()) {
@@ -72,14 +113,13 @@ public class RecommendationService {
                 .filter(p -> applyFilters(p, search, null, gender, seasons, occasions, minPrice, maxPrice))
                 .collect(Collectors.toList());
 
-        List<RecommendationResponse> responses = filtered.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<RecommendationResponse> responses = toResponses(filtered);
 
         return new PageImpl<>(responses, pageable, perfumes.getTotalElements());
     }
 
-    private boolean applyFilters(
+    // 패키지 접근: benchmarks 모듈에서 같은 패키지로 직접 호출
+    boolean applyFilters(
             Perfume perfume,
             String search,
             List<String> tags,
@@ -120,7 +160,17 @@ public class RecommendationService {
         return true;
     }
 
-    private RecommendationResponse convertToResponse(Perfume perfume) {
+    // 목록 변환: 썸네일은 페이지 단위로 한 번에 조회
+    private List<RecommendationResponse> toResponses(List<Perfume> perfumes) {
+        Map<Long, String> thumbnails = thumbnailResolver.resolve(perfumes.stream()
+                .map(Perfume::getPerfumeId)
+                .collect(Collectors.toList()));
+        return perfumes.stream()
+                .map(p -> convertToResponse(p, thumbnails.get(p.getPerfumeId())))
+                .collect(Collectors.toList());
+    }
+
+    RecommendationResponse convertToResponse(Perfume perfume, String thumbnailUrl) {
         Integer salePrice = perfume.getSalePrice() != null ? perfume.getSalePrice() : perfume.getPrice();
         Integer originalPrice = perfume.getSaleRate() != null && perfume.getSaleRate() > 0 ? perfume.getPrice() : null;
         return RecommendationResponse.builder()
@@ -142,15 +192,13 @@ public class RecommendationService {
                 .reviewCount(perfume.getReviewCount())
                 .rating(perfume.getAvgRating() != null ? (int) Math.round(perfume.getAvgRating()) : 0)
                 .salesCount(perfume.getSalesCount())
-                .viewCount(perfume.getViewCount())
-                .wishlistCount(perfume.getWishlistCount())
+                // 아직 DB에 반영되지 않은 증가분 포함
+                .viewCount(withPending(perfume.getViewCount(), counterService.pendingViews(perfume.getPerfumeId())))
+                .wishlistCount(withPending(perfume.getWishlistCount(), counterService.pendingWishlists(perfume.getPerfumeId())))
                 .totalStock(perfume.getTotalStock())
                 .isActive(perfume.getIsActive())
                 .createdAt(perfume.getCreatedAt())
-                .imageUrl(perfumeImageRepository
-                        .findByPerfumeAndIsThumbnailTrue(perfume)
-                        .map(img -> img.getImageUrl())
-                        .orElse(perfume.getImageUrl()))
+                .imageUrl(thumbnailUrl != null ? thumbnailUrl : perfume.getImageUrl())
                 .tags(new ArrayList<>())
                 .seasons(new ArrayList<>())
                 .occasions(new ArrayList<>())
@@ -161,7 +209,12 @@ public class RecommendationService {
     public RecommendationResponse getRecommendationDetail(Long perfumeId) {
         Perfume perfume = perfumeRepository.findById(perfumeId)
                 .orElseThrow(() -> new RuntimeException("향수를 찾을 수 없습니다."));
-        return convertToResponse(perfume);
+        counterService.recordView(perfumeId);
+        return convertToResponse(perfume, thumbnailResolver.resolve(perfumeId).orElse(null));
+    }
+
+    private static int withPending(Integer stored, int pending) {
+        return Math.max(0, (stored == null ? 0 : stored) + pending);
     }
 
     public List<RecommendationResponse> getRecommendationsByCategory(String category, int limit) {
@@ -189,9 +242,7 @@ public class RecommendationService {
                 ).getContent();
                 break;
         }
-        return perfumes.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toResponses(perfumes);
     }
 
     public List<RecommendationResponse> getRecommendationsByAge(String ageGroup, int limit) {
@@ -218,9 +269,7 @@ public class RecommendationService {
                     .collect(Collectors.toList());
             result.addAll(fallback);
         }
-        return result.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toResponses(result);
     }
 
     private boolean matchesAgeKeywords(Perfume perfume, List<String> keywords) {
@@ -1,6 +1,8 @@
 package com.aion.back.search.controller;
 import com.aion.back.common.response.ApiResponse;
+import com.aion.back.search.dto.response.SearchPageResponse;
 import com.aion.back.search.dto.response.SearchResultResponse;
+import com.aion.back.search.dto.response.SearchSuggestionResponse;
 import com.aion.back.search.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -19,4 +21,21 @@ public class SearchController {
         List<SearchResultResponse> results = searchService.searchPerfumes(keyword);
         return ApiResponse.success("검색 완료", results);
     }
+
+    @GetMapping("/perfumes")
+
+    public ApiResponse<SearchPageResponse> searchPerfumePage(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success("검색 완료", searchService.searchPage(keyword, cursor, size));
+    }
+
+    @GetMapping("/autocomplete")
+
+    public ApiResponse<List<SearchSuggestionResponse>> autocomplete(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(required = false) Integer limit) {
+        return ApiResponse.success("자동완성 조회 완료", searchService.autocomplete(prefix, limit));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.aion.back.search.dto.response;
+import lombok.Builder;
+import lombok.Getter;
+import java.util.List;
+@Getter
+@Builder
+public class SearchPageResponse {
+
+    private List<SearchResultResponse> items;
+
+    // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+    private String nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.aion.back.search.dto.response;
+import lombok.Builder;
+import lombok.Getter;
+@Getter
+@Builder
+public class SearchSuggestionResponse {
+
+    private Long perfumeId;
+
+    private String name;
+
+    private String nameEn;
+
+    private String brandName;
+}
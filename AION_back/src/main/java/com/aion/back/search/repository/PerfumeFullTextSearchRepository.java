@@ -0,0 +1,109 @@
+package com.aion.back.search.repository;
+
+import com.aion.back.search.dto.response.SearchResultResponse;
+import com.aion.back.search.dto.response.SearchSuggestionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Postgres 전문 검색 (tsvector + pg_trgm)
+ * 필요한 확장/인덱스: resources/db/search-indexes.sql
+ *
+ * 점수 = ts_rank(이름/영문명/설명) + 이름·영문명·브랜드 trigram 유사도 최댓값
+ *      + 판매량 / 찜 수 로그 가중치
+ * 점수순 상위 결과만 한 번에 읽고, 페이지 나누기는 SearchService의 결과 스냅샷에서 한다.
+ * (점수에 실시간 판매량 / 찜 수가 들어가 페이지마다 다시 계산하면 순서가 흔들림)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PerfumeFullTextSearchRepository {
+
+    private static final String SEARCH_DOC =
+            "to_tsvector('simple', coalesce(p.name, '') || ' ' || coalesce(p.name_en, '') || ' ' || coalesce(p.description, ''))";
+
+    private static final String RANKED = """
+            WITH q AS (SELECT plainto_tsquery('simple', :keyword) AS tsq),
+            ranked AS (
+                SELECT p.perfume_id, p.name, p.price, b.brand_name,
+                       (SELECT pi.image_url FROM "Perfume_Images" pi
+                         WHERE pi.perfume_id = p.perfume_id AND pi.is_thumbnail = true
+                         ORDER BY pi.display_order NULLS LAST LIMIT 1) AS image_url,
+                       ( ts_rank(%1$s, q.tsq)
+                         + GREATEST(similarity(p.name, :keyword),
+                                    similarity(coalesce(p.name_en, ''), :keyword),
+                                    similarity(coalesce(b.brand_name, ''), :keyword))
+                         + 0.05 * ln(1 + GREATEST(coalesce(p.sales_count, 0), 0))
+                         + 0.03 * ln(1 + GREATEST(coalesce(p.wishlist_count, 0), 0))
+                       )::float8 AS score
+                  FROM "Perfumes" p
+                  LEFT JOIN "Brands" b ON p.brand_id = b.brand_id
+                 CROSS JOIN q
+                 WHERE p.is_active = true
+                   AND ( %1$s @@ q.tsq
+                         OR p.name ILIKE :pattern
+                         OR p.name_en ILIKE :pattern
+                         OR b.brand_name ILIKE :pattern
+                         OR p.name %% :keyword
+                         OR b.brand_name %% :keyword )
+            )
+            SELECT perfume_id, name, price, brand_name, image_url, score
+              FROM ranked
+            """.formatted(SEARCH_DOC);
+
+    private static final String SUGGEST = """
+            SELECT p.perfume_id, p.name, p.name_en, b.brand_name
+              FROM "Perfumes" p
+              LEFT JOIN "Brands" b ON p.brand_id = b.brand_id
+             WHERE p.is_active = true
+               AND (p.name ILIKE :prefix OR p.name_en ILIKE :prefix OR b.brand_name ILIKE :prefix)
+             ORDER BY coalesce(p.sales_count, 0) DESC, p.perfume_id DESC
+             LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record Hit(SearchResultResponse result, double score) {
+    }
+
+    /**
+     * 점수순 상위 limit건 (동점은 perfume_id 내림차순)
+     */
+    public List<Hit> search(String keyword, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("pattern", "%" + escapeLike(keyword) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(RANKED + " ORDER BY score DESC, perfume_id DESC LIMIT :limit", params, (rs, rowNum) -> new Hit(
+                SearchResultResponse.builder()
+                        .perfumeId(rs.getLong("perfume_id"))
+                        .name(rs.getString("name"))
+                        .price((Integer) rs.getObject("price"))
+                        .brandName(rs.getString("brand_name"))
+                        .imageUrl(rs.getString("image_url"))
+                        .build(),
+                rs.getDouble("score")));
+    }
+
+    public List<SearchSuggestionResponse> suggest(String prefix, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("prefix", escapeLike(prefix) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SUGGEST, params, (rs, rowNum) -> SearchSuggestionResponse.builder()
+                .perfumeId(rs.getLong("perfume_id"))
+                .name(rs.getString("name"))
+                .nameEn(rs.getString("name_en"))
+                .brandName(rs.getString("brand_name"))
+                .build());
+    }
+
+    // ILIKE 와일드카드 문자 이스케이프 (기본 이스케이프 문자 '\')
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,330 @@
+package com.aion.back.search.service;
+
+import com.aion.back.perfume.repository.PerfumeCatalogProjection;
+import com.aion.back.perfume.repository.PerfumeRepository;
+import com.aion.back.perfume.service.PerfumeChangedEvent;
+import com.aion.back.perfume.service.PerfumeThumbnailResolver;
+import com.aion.back.search.dto.response.SearchResultResponse;
+import com.aion.back.search.dto.response.SearchSuggestionResponse;
+import com.aion.back.search.repository.PerfumeFullTextSearchRepository.Hit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 앱 내장 향수 검색 역색인 (search.mode=embedded)
+ *
+ * 이름 / 영문명 / 브랜드 / 설명을 공백·기호를 뺀 문자 2-gram으로 쪼개 gram → (향수 ID → 필드) 역색인을 만든다.
+ * 한글은 형태소 분석 없이도 2-gram이면 부분 일치와 띄어쓰기 차이("샤넬 넘버" ≈ "샤넬넘버")를 잡고,
+ * 질의 gram 중 일정 비율(min-coverage)만 맞으면 통과시키므로 오타 한두 글자도 허용된다.
+ *
+ * 시작 시 한 번 적재하고, 이후에는 PerfumeChangedEvent(커밋 후)로 바뀐 향수만 다시 색인한다.
+ * 조회는 DB 커넥션을 쓰지 않는다. (썸네일은 PerfumeThumbnailResolver 캐시)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.mode", havingValue = "embedded")
+public class EmbeddedSearchIndex {
+
+    // 필드 비트 / 가중치
+    private static final int NAME = 1;
+    private static final int NAME_EN = 2;
+    private static final int BRAND = 4;
+    private static final int DESCRIPTION = 8;
+    private static final double MAX_FIELD_WEIGHT = 3.0;
+
+    // 질의 전체가 이름에 그대로 들어있으면 추가 점수
+    private static final double EXACT_NAME_BONUS = 1.0;
+
+    private final PerfumeRepository perfumeRepository;
+    private final PerfumeThumbnailResolver thumbnailResolver;
+    private final double minCoverage;
+
+    // 갱신(관리자 쓰기)은 드물고 조회가 대부분 → 읽기/쓰기 락
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private volatile boolean ready;
+
+    public EmbeddedSearchIndex(PerfumeRepository perfumeRepository,
+                               PerfumeThumbnailResolver thumbnailResolver,
+                               @Value("${search.embedded.min-coverage:0.6}") double minCoverage,
+                               MeterRegistry meterRegistry) {
+        this.perfumeRepository = perfumeRepository;
+        this.thumbnailResolver = thumbnailResolver;
+        this.minCoverage = minCoverage;
+        Gauge.builder("search.embedded.documents", this, EmbeddedSearchIndex::size)
+                .description("내장 검색 색인에 들어있는 향수 수")
+                .register(meterRegistry);
+    }
+
+    // ══════════════════════════════════════════════════════════════
+    // 색인 적재 / 갱신
+    // ══════════════════════════════════════════════════════════════
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            List<PerfumeCatalogProjection> rows = perfumeRepository.findActiveCatalogEntries();
+
+            lock.writeLock().lock();
+            try {
+                documents.clear();
+                postings.clear();
+                rows.forEach(this::add);
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("내장 검색 색인 구축 완료 - 향수 {} 개, gram {} 개 ({}ms)",
+                    rows.size(), postings.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            // 색인이 없으면 SearchService가 DB 전문 검색으로 동작
+            log.error("내장 검색 색인 구축 실패 - DB 검색으로 대체합니다", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPerfumeChanged(PerfumeChangedEvent event) {
+        if (!ready) return;
+        try {
+            // DB 조회는 락 밖에서
+            Map<Long, Optional<PerfumeCatalogProjection>> rows = new LinkedHashMap<>();
+            for (Long perfumeId : event.perfumeIds()) {
+                rows.put(perfumeId, perfumeRepository.findActiveCatalogEntry(perfumeId));
+            }
+
+            lock.writeLock().lock();
+            try {
+                rows.forEach((perfumeId, row) -> {
+                    remove(perfumeId);
+                    row.ifPresent(this::add); // 없으면 삭제 또는 단종
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("내장 검색 색인 갱신 - perfumeIds: {}", event.perfumeIds());
+        } catch (Exception e) {
+            log.error("내장 검색 색인 갱신 실패 - perfumeIds: {}", event.perfumeIds(), e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 호출 측에서 쓰기 락 보유
+    private void add(PerfumeCatalogProjection row) {
+        Document doc = Document.of(row);
+        documents.put(doc.perfumeId(), doc);
+        doc.grams().forEach((gram, fields) ->
+                postings.computeIfAbsent(gram, g -> new HashMap<>()).put(doc.perfumeId(), fields));
+    }
+
+    private void remove(Long perfumeId) {
+        Document doc = documents.remove(perfumeId);
+        if (doc == null) return;
+        for (String gram : doc.grams().keySet()) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.remove(perfumeId);
+            if (posting.isEmpty()) postings.remove(gram);
+        }
+    }
+
+    // ══════════════════════════════════════════════════════════════
+    // 조회
+    // ══════════════════════════════════════════════════════════════
+
+    /**
+     * 점수순 상위 limit건 (동점은 perfumeId 내림차순)
+     */
+    public List<Hit> search(String keyword, int limit) {
+        String query = compact(keyword);
+        if (query.isEmpty()) return List.of();
+
+        List<Scored> scored;
+        lock.readLock().lock();
+        try {
+            scored = query.length() < 2 ? scanSingleChar(query) : scoreByGrams(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Scored> order = Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparing(s -> s.doc().perfumeId(), Comparator.reverseOrder());
+        List<Scored> page = scored.stream()
+                .sorted(order)
+                .limit(limit)
+                .collect(Collectors.toList());
+
+        Map<Long, String> thumbnails = thumbnailResolver.resolve(
+                page.stream().map(s -> s.doc().perfumeId()).collect(Collectors.toList()));
+
+        return page.stream()
+                .map(s -> new Hit(SearchResultResponse.builder()
+                        .perfumeId(s.doc().perfumeId())
+                        .name(s.doc().name())
+                        .price(s.doc().price())
+                        .brandName(s.doc().brandName())
+                        .imageUrl(thumbnails.get(s.doc().perfumeId()))
+                        .build(), s.score()))
+                .collect(Collectors.toList());
+    }
+
+    /** 이름 / 영문명 / 브랜드 접두어 자동완성. 판매량순 */
+    public List<SearchSuggestionResponse> suggest(String prefix, int limit) {
+        String p = normalize(prefix);
+        if (p.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            return documents.values().stream()
+                    .filter(d -> startsWith(d.name(), p) || startsWith(d.nameEn(), p) || startsWith(d.brandName(), p))
+                    .sorted(Comparator.comparingInt(Document::salesCount).reversed()
+                            .thenComparing(Document::perfumeId, Comparator.reverseOrder()))
+                    .limit(limit)
+                    .map(d -> SearchSuggestionResponse.builder()
+                            .perfumeId(d.perfumeId())
+                            .name(d.name())
+                            .nameEn(d.nameEn())
+                            .brandName(d.brandName())
+                            .build())
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 질의 gram마다 역색인을 훑어 향수별 가중치 합 / 일치 gram 수 누적
+    private List<Scored> scoreByGrams(String query) {
+        Set<String> queryGrams = bigrams(query);
+        Map<Long, double[]> acc = new HashMap<>(); // [가중치 합, 일치 gram 수]
+        for (String gram : queryGrams) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.forEach((perfumeId, fields) -> {
+                double[] a = acc.computeIfAbsent(perfumeId, id -> new double[2]);
+                a[0] += weight(fields);
+                a[1] += 1;
+            });
+        }
+
+        List<Scored> result = new ArrayList<>();
+        int total = queryGrams.size();
+        acc.forEach((perfumeId, a) -> {
+            if (a[1] / total < minCoverage) return;
+            Document doc = documents.get(perfumeId);
+            double score = a[0] / (total * MAX_FIELD_WEIGHT)
+                    + (doc.compactName().contains(query) ? EXACT_NAME_BONUS : 0.0)
+                    + doc.popularity();
+            result.add(new Scored(doc, score));
+        });
+        return result;
+    }
+
+    // 한 글자 질의는 2-gram이 없으므로 이름 / 영문명 / 브랜드 포함 여부만 본다
+    private List<Scored> scanSingleChar(String query) {
+        List<Scored> result = new ArrayList<>();
+        for (Document doc : documents.values()) {
+            boolean inName = doc.compactName().contains(query);
+            if (inName || compact(doc.nameEn()).contains(query) || compact(doc.brandName()).contains(query)) {
+                result.add(new Scored(doc, (inName ? EXACT_NAME_BONUS : 0.0) + doc.popularity()));
+            }
+        }
+        return result;
+    }
+
+    private static double weight(int fields) {
+        if ((fields & NAME) != 0) return 3.0;
+        if ((fields & (NAME_EN | BRAND)) != 0) return 2.0;
+        return 1.0;
+    }
+
+    private static boolean startsWith(String value, String prefix) {
+        return value != null && normalize(value).startsWith(prefix);
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC).strip().toLowerCase(Locale.ROOT);
+    }
+
+    // 글자/숫자만 남김 → 띄어쓰기·기호 차이 무시
+    static String compact(String text) {
+        String normalized = normalize(text);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    static Set<String> bigrams(String compact) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= compact.length(); i++) {
+            grams.add(compact.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private record Scored(Document doc, double score) {
+    }
+
+    private record Document(
+            Long perfumeId,
+            String name,
+            String nameEn,
+            String brandName,
+            Integer price,
+            int salesCount,
+            double popularity,
+            String compactName,
+            Map<String, Integer> grams) {
+
+        static Document of(PerfumeCatalogProjection row) {
+            int sales = row.getSalesCount() == null ? 0 : Math.max(row.getSalesCount(), 0);
+            int wishes = row.getWishlistCount() == null ? 0 : Math.max(row.getWishlistCount(), 0);
+            // DB 전문 검색과 같은 인기도 가중치
+            double popularity = 0.05 * Math.log1p(sales) + 0.03 * Math.log1p(wishes);
+
+            String compactName = compact(row.getName());
+            Map<String, Integer> grams = new HashMap<>();
+            index(grams, compactName, NAME);
+            index(grams, compact(row.getNameEn()), NAME_EN);
+            index(grams, compact(row.getBrandName()), BRAND);
+            index(grams, compact(row.getDescription()), DESCRIPTION);
+
+            return new Document(row.getPerfumeId(), row.getName(), row.getNameEn(), row.getBrandName(),
+                    row.getPrice(), sales, popularity, compactName, Map.copyOf(grams));
+        }
+
+        private static void index(Map<String, Integer> grams, String compact, int field) {
+            for (String gram : bigrams(compact)) {
+                grams.merge(gram, field, (a, b) -> a | b);
+            }
+        }
+    }
+}
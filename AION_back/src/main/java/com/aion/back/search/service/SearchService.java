@@ -1,19 +1,136 @@
 package com.aion.back.search.service;
 import com.aion.back.perfume.repository.PerfumeRepository;
 import com.aion.back.perfume.repository.PerfumeSearchProjection;
+import com.aion.back.search.dto.response.SearchPageResponse;
 import com.aion.back.search.dto.response.SearchResultResponse;
-import lombok.RequiredArgsConstructor;
+import com.aion.back.search.dto.response.SearchSuggestionResponse;
+import com.aion.back.search.repository.PerfumeFullTextSearchRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 @Service
-@RequiredArgsConstructor
 public class SearchService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_SUGGESTIONS = 10;
+
     private final PerfumeRepository perfumeRepository;
+    private final PerfumeFullTextSearchRepository fullTextSearchRepository;
+    private final Optional<EmbeddedSearchIndex> embeddedSearchIndex; // search.mode=embedded 일 때만 등록
+
+    // like: 기존 이름 ILIKE 검색 / fulltext: tsvector + pg_trgm 순위 검색
+    // embedded: 앱 내장 2-gram 역색인 (색인 준비 전에는 fulltext로 대체)
+    private final String searchMode;
+    private final int maxResults;
+
+    // 검색 한 번의 순위 결과 (커서 토큰 → 검색어 + 상위 max-results건)
+    // 다음 페이지는 여기서 잘라 주므로 순위를 다시 계산하지 않고, 그 사이 판매량 / 찜 수가 바뀌어도 순서가 그대로
+    private final Cache<String, Snapshot> snapshots;
+
+    public SearchService(PerfumeRepository perfumeRepository,
+                         PerfumeFullTextSearchRepository fullTextSearchRepository,
+                         Optional<EmbeddedSearchIndex> embeddedSearchIndex,
+                         @Value("${search.mode:like}") String searchMode,
+                         @Value("${search.page.max-results:200}") int maxResults,
+                         @Value("${search.page.snapshot-ttl-minutes:10}") long snapshotTtlMinutes,
+                         @Value("${search.page.snapshot-max-size:500}") long snapshotMaxSize) {
+        this.perfumeRepository = perfumeRepository;
+        this.fullTextSearchRepository = fullTextSearchRepository;
+        this.embeddedSearchIndex = embeddedSearchIndex;
+        this.searchMode = searchMode;
+        this.maxResults = maxResults;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(snapshotMaxSize)
+                .expireAfterAccess(snapshotTtlMinutes, TimeUnit.MINUTES)
+                .build();
+    }
 
     public List<SearchResultResponse> searchPerfumes(String keyword) {
-        List<PerfumeSearchProjection> searchResults = perfumeRepository.searchWithImages(keyword);
+        if ("fulltext".equalsIgnoreCase(searchMode) || "embedded".equalsIgnoreCase(searchMode)) {
+            // 기존 엔드포인트는 무제한 목록이었으므로 상위 결과만 반환
+            String trimmed = keyword == null ? "" : keyword.trim();
+            return trimmed.isEmpty() ? List.of() : rank(trimmed, MAX_PAGE_SIZE);
+        }
+        return likeSearch(keyword);
+    }
+
+    /**
+     * 순위 검색 (페이지네이션)
+     * cursor는 이전 응답의 nextCursor, 첫 페이지는 null
+     * 첫 페이지에서 상위 search.page.max-results 건을 한 번 계산해 두고 이후 페이지는 그 스냅샷을 자른다.
+     * (스냅샷이 만료됐으면 다시 계산 → 그 사이 순위가 바뀌었으면 어긋날 수 있음)
+     * 커서는 발급한 검색어에만 쓸 수 있고, 다른 검색어와 함께 오면 거절한다.
+     */
+    public SearchPageResponse searchPage(String keyword, String cursor, Integer size) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.isEmpty()) {
+            return SearchPageResponse.builder().items(List.of()).build();
+        }
+        int limit = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        String token;
+        int offset;
+        List<SearchResultResponse> ranked;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            token = parts[0];
+            offset = Integer.parseInt(parts[1]);
+            Snapshot snapshot = snapshots.get(token, t -> new Snapshot(trimmed, rank(trimmed, maxResults)));
+            if (!snapshot.keyword().equals(trimmed)) {
+                throw new RuntimeException("검색어가 바뀌었습니다. 첫 페이지부터 다시 검색해주세요.");
+            }
+            ranked = snapshot.results();
+        } else {
+            token = UUID.randomUUID().toString();
+            offset = 0;
+            ranked = rank(trimmed, maxResults);
+            // 한 페이지로 끝나면 보관할 필요 없음
+            if (ranked.size() > limit) snapshots.put(token, new Snapshot(trimmed, ranked));
+        }
+
+        int from = Math.min(offset, ranked.size());
+        int to = Math.min(from + limit, ranked.size());
+        return SearchPageResponse.builder()
+                .items(List.copyOf(ranked.subList(from, to)))
+                .nextCursor(to < ranked.size() ? encodeCursor(token, to) : null)
+                .build();
+    }
+
+    public List<SearchSuggestionResponse> autocomplete(String prefix, Integer limit) {
+        String trimmed = prefix == null ? "" : prefix.trim();
+        if (trimmed.isEmpty()) return List.of();
+        int max = limit == null || limit < 1 ? MAX_SUGGESTIONS : Math.min(limit, MAX_SUGGESTIONS);
+        return readyEmbeddedIndex()
+                .map(index -> index.suggest(trimmed, max))
+                .orElseGet(() -> fullTextSearchRepository.suggest(trimmed, max));
+    }
+
+    // 모드별 점수순 상위 limit건 (like 모드는 ILIKE 일치 건을 ID순으로)
+    private List<SearchResultResponse> rank(String keyword, int limit) {
+        Optional<EmbeddedSearchIndex> embedded = readyEmbeddedIndex();
+        if (embedded.isPresent()) {
+            return toResults(embedded.get().search(keyword, limit));
+        }
+        if ("fulltext".equalsIgnoreCase(searchMode) || "embedded".equalsIgnoreCase(searchMode)) {
+            return toResults(fullTextSearchRepository.search(keyword, limit));
+        }
+        return toResponses(perfumeRepository.searchWithImages(keyword, limit));
+    }
+
+    private List<SearchResultResponse> likeSearch(String keyword) {
+        return toResponses(perfumeRepository.searchWithImages(keyword));
+    }
+
+    private static List<SearchResultResponse> toResponses(List<PerfumeSearchProjection> searchResults) {
         return searchResults.stream().map(proj ->
                 SearchResultResponse.builder()
                         .perfumeId(proj.getPerfumeId())
@@ -24,4 +141,32 @@ public class SearchService {
                         .build()
         ).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private static List<SearchResultResponse> toResults(List<PerfumeFullTextSearchRepository.Hit> hits) {
+        return hits.stream().map(PerfumeFullTextSearchRepository.Hit::result).collect(Collectors.toList());
+    }
+
+    private Optional<EmbeddedSearchIndex> readyEmbeddedIndex() {
+        return embeddedSearchIndex.filter(EmbeddedSearchIndex::isReady);
+    }
+
+    private record Snapshot(String keyword, List<SearchResultResponse> results) {}
+
+    private static String encodeCursor(String token, int offset) {
+        String raw = token + ":" + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2) throw new IllegalArgumentException();
+            UUID.fromString(parts[0]);
+            if (Integer.parseInt(parts[1]) < 0) throw new IllegalArgumentException();
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("잘못된 검색 커서입니다.");
+        }
+    }
+}
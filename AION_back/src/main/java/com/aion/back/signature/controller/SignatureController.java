@@ -5,6 +5,7 @@ import com.aion.back.signature.dto.SignatureSaveRequest;
 import com.aion.back.signature.dto.SignatureSummaryResponse;
 import com.aion.back.signature.service.SignatureService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.UUID;
@@ -23,14 +24,11 @@ public class SignatureController {
         return ApiResponse.success("시그니처 목록 조회 성공", signatureService.getList(token));
     }
 
+    // 미리 직렬화된 본문 + ETag (If-None-Match 일치 시 304)
     @GetMapping("/active")
 
-    public ApiResponse<SignatureDetailResponse> getActive() {
-        SignatureDetailResponse data = signatureService.getActive();
-        if (data == null) {
-            return ApiResponse.success("활성 시그니처 없음", null);
-        }
-        return ApiResponse.success("활성 시그니처 조회 성공", data);
+    public ResponseEntity<byte[]> getActive() {
+        return signatureService.getActiveLanding().toResponse();
     }
 
     @GetMapping("/{id}")
@@ -1,11 +1,13 @@
 package com.aion.back.signature.dto;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 @Getter
 @Builder
+@Jacksonized
 public class SignatureDetailResponse {
 
     private UUID collectionId;
@@ -34,7 +36,7 @@ public class SignatureDetailResponse {
 
     private List<PerfumeDto> perfumes;
 
-    @Getter @Builder
+    @Getter @Builder @Jacksonized
 
     public static class MediaDto {
         private String mediaId;
@@ -43,7 +45,7 @@ public class SignatureDetailResponse {
         private Integer displayOrder;
     }
 
-    @Getter @Builder
+    @Getter @Builder @Jacksonized
 
     public static class TextBlockDto {
         private String textBlockId;
@@ -56,7 +58,7 @@ public class SignatureDetailResponse {
         private Integer displayOrder;
     }
 
-    @Getter @Builder
+    @Getter @Builder @Jacksonized
 
     public static class PerfumeDto {
         private Long perfumeId;
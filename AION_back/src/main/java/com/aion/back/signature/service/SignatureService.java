@@ -1,6 +1,10 @@
 package com.aion.back.signature.service;
 
-import com.aion.back.member.entity.Member;
+import com.aion.back.collection.service.CollectionDetailCache;
+import com.aion.back.collection.service.LandingPayloadCache;
+import com.aion.back.collection.service.LandingPayloadCache.LandingPayload;
+import com.aion.back.collection.service.LandingPayloadCache.LandingView;
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.member.service.MemberService;
 import com.aion.back.signature.dto.SignatureDetailResponse;
 import com.aion.back.signature.dto.SignatureSaveRequest;
@@ -31,6 +35,7 @@ import java.util.stream.Collectors;
 public class SignatureService {
 
     private static final String TYPE = "SIGNATURE";
+    private static final LandingView LANDING_VIEW = new LandingView("활성 시그니처 조회 성공", "활성 시그니처 없음");
 
     private final SignatureRepository signatureRepository;
     private final SignatureMediaRepository mediaRepository;
@@ -38,12 +43,14 @@ public class SignatureService {
     private final SignaturePerfumeRepository perfumeRepository;
     private final MemberService memberService;
     private final DataSource dataSource;
+    private final CollectionDetailCache collectionDetailCache;
+    private final LandingPayloadCache landingPayloadCache;
 
 
 
     private void validateAdmin(String token) {
-        Member member = memberService.getMemberEntityByToken(token);
-        if (!"ADMIN".equals(member.getRole())) {
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
+        if (!"ADMIN".equals(principal.role())) {
             throw new RuntimeException("관리자 권한이 없습니다.");
         }
     }
@@ -71,19 +78,9 @@ public class SignatureService {
 
 
     
-    @Transactional(readOnly = true)
-    public SignatureDetailResponse getActive() {
-        String sql = "SELECT * FROM \"Collections\" WHERE type = ? AND is_active = true LIMIT 1";
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, TYPE);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) return buildDetail(mapEntity(rs).getCollectionId());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("활성 시그니처 조회 오류: " + e.getMessage(), e);
-        }
-        return null;
+    // 트랜잭션 없이 (캐시 적중 시 커넥션을 잡지 않도록)
+    public LandingPayload getActiveLanding() {
+        return landingPayloadCache.get(LANDING_VIEW, TYPE).orElseThrow();
     }
 
 
@@ -121,6 +118,8 @@ public class SignatureService {
             throw new RuntimeException("시그니처 생성 오류: " + e.getMessage(), e);
         }
         saveSubData(newId, req);
+        collectionDetailCache.evictAfterCommit(newId);
+        landingPayloadCache.refreshAfterCommit();
         return buildDetail(newId);
     }
 
@@ -157,6 +156,9 @@ public class SignatureService {
 
         deleteSubData(collectionId);
         saveSubData(collectionId, req);
+        if (Boolean.TRUE.equals(req.getIsActive())) collectionDetailCache.evictAllAfterCommit();
+        else collectionDetailCache.evictAfterCommit(collectionId);
+        landingPayloadCache.refreshAfterCommit();
 
         return buildDetail(collectionId);
     }
@@ -190,6 +192,8 @@ public class SignatureService {
                 throw new RuntimeException("활성화 오류: " + e.getMessage(), e);
             }
         }
+        collectionDetailCache.evictAllAfterCommit();
+        landingPayloadCache.refreshAfterCommit();
     }
 
 
@@ -211,6 +215,8 @@ public class SignatureService {
         } catch (Exception e) {
             throw new RuntimeException("시그니처 삭제 오류: " + e.getMessage(), e);
         }
+        collectionDetailCache.evictAfterCommit(collectionId);
+        landingPayloadCache.refreshAfterCommit();
     }
 
 
@@ -303,112 +309,11 @@ public class SignatureService {
         }
     }
 
-    
+    // 상세는 한 문장으로 읽고 collection_id 버전 캐시에 보관 (생성 / 수정 / 활성 전환 / 삭제 시 무효화)
     private SignatureDetailResponse buildDetail(UUID collectionId) {
-        SignatureEntity sig = findById(collectionId);
-
-        List<SignatureDetailResponse.MediaDto> mediaList = new ArrayList<>();
-        List<SignatureDetailResponse.TextBlockDto> textBlocks = new ArrayList<>();
-        List<SignatureDetailResponse.PerfumeDto> perfumeDtos = new ArrayList<>();
-
-        try (Connection conn = dataSource.getConnection()) {
-
-
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "SELECT media_id, media_url, media_type, display_order FROM \"Collection_Media\" " +
-                    "WHERE collection_id = ?::uuid ORDER BY display_order ASC")) {
-                ps.setString(1, collectionId.toString());
-                try (ResultSet rs = ps.executeQuery()) {
-                    while (rs.next()) mediaList.add(SignatureDetailResponse.MediaDto.builder()
-                            .mediaId(rs.getString("media_id"))
-                            .mediaUrl(rs.getString("media_url"))
-                            .mediaType(rs.getString("media_type"))
-                            .displayOrder(rs.getObject("display_order") != null ? rs.getInt("display_order") : null)
-                            .build());
-                }
-            }
-
-
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "SELECT text_block_id, content, font_size, font_weight, is_italic, position_x, position_y, display_order " +
-                    "FROM \"Collection_Text_Blocks\" WHERE collection_id = ?::uuid ORDER BY display_order ASC")) {
-                ps.setString(1, collectionId.toString());
-                try (ResultSet rs = ps.executeQuery()) {
-                    while (rs.next()) textBlocks.add(SignatureDetailResponse.TextBlockDto.builder()
-                            .textBlockId(rs.getString("text_block_id"))
-                            .content(rs.getString("content"))
-                            .fontSize(rs.getString("font_size"))
-                            .fontWeight(rs.getString("font_weight"))
-                            .isItalic(rs.getBoolean("is_italic"))
-                            .positionX(rs.getString("position_x"))
-                            .positionY(rs.getString("position_y"))
-                            .displayOrder(rs.getObject("display_order") != null ? rs.getInt("display_order") : null)
-                            .build());
-                }
-            }
-
-
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "SELECT cp.perfume_id, cp.display_order, cp.is_featured, " +
-                    "p.name, p.name_en, p.price, p.sale_price, p.sale_rate, " +
-                    "b.brand_name, pi.image_url AS thumbnail " +
-                    "FROM \"Collection_Perfumes\" cp " +
-                    "LEFT JOIN \"Perfumes\" p ON cp.perfume_id = p.perfume_id " +
-                    "LEFT JOIN \"Brands\" b ON p.brand_id = b.brand_id " +
-                    "LEFT JOIN \"Perfume_Images\" pi ON p.perfume_id = pi.perfume_id AND pi.is_thumbnail = true " +
-                    "WHERE cp.collection_id = ?::uuid ORDER BY cp.display_order ASC")) {
-                ps.setString(1, collectionId.toString());
-                try (ResultSet rs = ps.executeQuery()) {
-                    while (rs.next()) perfumeDtos.add(SignatureDetailResponse.PerfumeDto.builder()
-                            .perfumeId(rs.getLong("perfume_id"))
-                            .name(rs.getString("name"))
-                            .nameEn(rs.getString("name_en"))
-                            .price(rs.getObject("price") != null ? rs.getInt("price") : null)
-                            .salePrice(rs.getObject("sale_price") != null ? rs.getInt("sale_price") : null)
-                            .saleRate(rs.getObject("sale_rate") != null ? rs.getInt("sale_rate") : null)
-                            .brandName(rs.getString("brand_name"))
-                            .thumbnail(rs.getString("thumbnail"))
-                            .displayOrder(rs.getObject("display_order") != null ? rs.getInt("display_order") : null)
-                            .isFeatured(rs.getBoolean("is_featured"))
-                            .build());
-                }
-            }
-
-        } catch (Exception e) {
-            throw new RuntimeException("시그니처 상세 조회 오류: " + e.getMessage(), e);
-        }
-
-        return SignatureDetailResponse.builder()
-                .collectionId(sig.getCollectionId())
-                .title(sig.getTitle())
-                .description(sig.getDescription())
-                .type(sig.getType())
-                .textColor(sig.getTextColor())
-                .isPublished(sig.getIsPublished())
-                .isActive(sig.getIsActive())
-                .visibleFrom(sig.getVisibleFrom())
-                .visibleUntil(sig.getVisibleUntil())
-                .createdAt(sig.getCreatedAt())
-                .mediaList(mediaList)
-                .textBlocks(textBlocks)
-                .perfumes(perfumeDtos)
-                .build();
-    }
-
-    
-    private SignatureEntity findById(UUID id) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement ps = conn.prepareStatement(
-                     "SELECT * FROM \"Collections\" WHERE collection_id = ?::uuid AND type = ?")) {
-            ps.setString(1, id.toString());
-            ps.setString(2, TYPE);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) return mapEntity(rs);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("시그니처 조회 오류: " + e.getMessage(), e);
-        }
-        throw new RuntimeException("시그니처를 찾을 수 없습니다. id=" + id);
+        return collectionDetailCache.get(collectionId, SignatureDetailResponse.class)
+                .filter(detail -> TYPE.equals(detail.getType()))
+                .orElseThrow(() -> new RuntimeException("시그니처를 찾을 수 없습니다. id=" + collectionId));
     }
 
     private boolean signatureExists(UUID id) {
@@ -0,0 +1,7 @@
+package com.aion.back.wishlist.service;
+
+/**
+ * 찜 추가(+1) / 취소(-1) 이벤트
+ * 커밋 이후 향수별 찜 통계 집계에 사용
+ */
+public record WishlistChangedEvent(Long perfumeId, int delta) {}
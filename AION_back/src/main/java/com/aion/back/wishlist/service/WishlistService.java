@@ -1,14 +1,17 @@
 package com.aion.back.wishlist.service;
 
+import com.aion.back.common.security.AuthPrincipal;
 import com.aion.back.member.entity.Member;
 import com.aion.back.member.service.MemberService;
 import com.aion.back.perfume.entity.Perfume;
 import com.aion.back.perfume.repository.PerfumeRepository;
+import com.aion.back.perfume.service.PerfumeCounterService;
 import com.aion.back.wishlist.dto.response.WishlistResponse;
 import com.aion.back.wishlist.entity.Wishlist;
 import com.aion.back.wishlist.repository.WishlistProjection;
 import com.aion.back.wishlist.repository.WishlistRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,12 +26,14 @@ public class WishlistService {
     private final WishlistRepository wishlistRepository;
     private final PerfumeRepository perfumeRepository;
     private final MemberService memberService;
+    private final PerfumeCounterService counterService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public List<WishlistResponse> getMyWishlist(String token) {
-        Member member = memberService.getMemberEntityByToken(token);
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
 
-        List<WishlistProjection> projections = wishlistRepository.findWishlistWithImagesByUserId(member.getUserId());
+        List<WishlistProjection> projections = wishlistRepository.findWishlistWithImagesByUserId(principal.userId());
 
         return projections.stream().map(proj ->
                 WishlistResponse.builder()
@@ -44,7 +49,7 @@ public class WishlistService {
 
     @Transactional
     public String toggleWishlist(String token, Long perfumeId) {
-        Member member = memberService.getMemberEntityByToken(token);
+        Member member = memberService.getMemberReferenceByToken(token);
         Perfume perfume = perfumeRepository.findById(perfumeId)
                 .orElseThrow(() -> new RuntimeException("상품이 없습니다."));
 
@@ -52,6 +57,8 @@ public class WishlistService {
 
         if (existing.isPresent()) {
             wishlistRepository.delete(existing.get());
+            counterService.recordWishlist(perfumeId, -1);
+            eventPublisher.publishEvent(new WishlistChangedEvent(perfumeId, -1));
             return "찜하기가 취소되었습니다.";
         } else {
             Wishlist newWishlist = Wishlist.builder()
@@ -59,6 +66,8 @@ public class WishlistService {
                     .perfume(perfume)
                     .build();
             wishlistRepository.save(newWishlist);
+            counterService.recordWishlist(perfumeId, 1);
+            eventPublisher.publishEvent(new WishlistChangedEvent(perfumeId, 1));
             return "찜 목록에 추가되었습니다.";
         }
     }
@@ -66,14 +75,16 @@ public class WishlistService {
 
     @Transactional
     public void deleteWishlist(String token, Long wishlistId) {
-        Member member = memberService.getMemberEntityByToken(token);
+        AuthPrincipal principal = memberService.getPrincipalByToken(token);
         Wishlist wishlist = wishlistRepository.findById(wishlistId)
                 .orElseThrow(() -> new RuntimeException("해당 찜 내역이 존재하지 않습니다."));
 
-        if (!wishlist.getMember().getUserId().equals(member.getUserId())) {
+        if (!wishlist.getMember().getUserId().equals(principal.userId())) {
             throw new RuntimeException("본인의 찜 목록만 삭제할 수 있습니다.");
         }
 
         wishlistRepository.delete(wishlist);
+        counterService.recordWishlist(wishlist.getPerfume().getPerfumeId(), -1);
+        eventPublisher.publishEvent(new WishlistChangedEvent(wishlist.getPerfume().getPerfumeId(), -1));
     }
 }
\ No newline at end of file
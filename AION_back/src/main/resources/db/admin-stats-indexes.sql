@@ -0,0 +1,12 @@
+-- ─────────────────────────────────────────────────────────
+-- 관리자 대시보드 요약 쿼리용 인덱스 (AdminStatsSnapshotService)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+-- 오늘 신규 가입 (created_at 범위 조건)
+CREATE INDEX IF NOT EXISTS idx_users_created_at
+    ON "Users" (created_at);
+
+-- 미답변 문의 수
+CREATE INDEX IF NOT EXISTS idx_inquiries_status
+    ON "Inquiries" (status);
@@ -0,0 +1,17 @@
+-- ─────────────────────────────────────────────────────────
+-- 컬렉션 / 시그니처 상세 단일 쿼리 (CollectionDetailJdbcRepository)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+-- 하위 목록 json_agg (collection_id로 찾고 display_order 순으로 집계)
+CREATE INDEX IF NOT EXISTS idx_collection_media_collection_order
+    ON "Collection_Media" (collection_id, display_order);
+
+CREATE INDEX IF NOT EXISTS idx_collection_text_blocks_collection_order
+    ON "Collection_Text_Blocks" (collection_id, display_order);
+
+-- Collection_Perfumes는 (collection_id, perfume_id) 유니크 인덱스로 충분
+
+-- 향수별 대표 이미지
+CREATE INDEX IF NOT EXISTS idx_perfume_images_thumbnail
+    ON "Perfume_Images" (perfume_id) WHERE is_thumbnail = true;
@@ -0,0 +1,14 @@
+-- ─────────────────────────────────────────────────────────
+-- 쿠폰 발급 중복 방지 (등록 / 이벤트 지급 / 일괄 발급 공통)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+-- 회원당 같은 쿠폰은 한 장 (INSERT ... ON CONFLICT DO NOTHING 대상, 존재 확인도 이 인덱스로)
+-- 이미 중복 행이 있으면 먼저 정리해야 생성된다.
+-- 적용 후 반드시 coupon.issue.unique-index=true 로 배포 (false면 NOT EXISTS 확인만이라 동시 등록 두 건이 모두 통과할 수 있음)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_user_coupons_user_coupon
+    ON "UserCoupons" (user_email, coupon_id);
+
+-- 쿠폰별 발급 수 확인 (일괄 발급 issueLimit 대비 남은 수량)
+CREATE INDEX IF NOT EXISTS idx_user_coupons_coupon
+    ON "UserCoupons" (coupon_id);
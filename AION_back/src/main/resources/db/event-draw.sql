@@ -0,0 +1,23 @@
+-- ─────────────────────────────────────────────────────────
+-- 이벤트 응모 / 추첨 (EventDrawEngine)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+-- 정원 / 당첨 한도 카운터, 생성 시 미리 찾아 둔 경품 쿠폰
+ALTER TABLE "Events" ADD COLUMN IF NOT EXISTS participant_count INT NOT NULL DEFAULT 0;
+ALTER TABLE "Events" ADD COLUMN IF NOT EXISTS winner_count      INT NOT NULL DEFAULT 0;
+ALTER TABLE "Events" ADD COLUMN IF NOT EXISTS max_winners       INT;
+ALTER TABLE "Events" ADD COLUMN IF NOT EXISTS prize_coupon_id   BIGINT;
+
+-- 기존 참여 수로 카운터 초기화
+UPDATE "Events" e
+   SET participant_count = c.participants,
+       winner_count = c.winners
+  FROM (SELECT event_id, COUNT(*) AS participants, COUNT(*) FILTER (WHERE won) AS winners
+          FROM "EventParticipations" GROUP BY event_id) c
+ WHERE e.id = c.event_id;
+
+-- 회원당 한 번만 응모 (INSERT ... ON CONFLICT DO NOTHING 대상)
+-- 이미 중복 행이 있으면 먼저 정리해야 생성된다.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_event_participations_event_user
+    ON "EventParticipations" (event_id, user_email);
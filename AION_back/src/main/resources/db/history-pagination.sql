@@ -0,0 +1,15 @@
+-- ─────────────────────────────────────────────────────────
+-- 내역 키셋 페이지 / 내보내기 (포인트, 주문, 문의)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+-- WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?
+-- → 인덱스 범위 스캔으로 페이지 깊이와 무관하게 size건만 읽음
+CREATE INDEX IF NOT EXISTS idx_points_history_user_created
+    ON "Points_History" (user_id, created_at DESC, point_history_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_orders_user_created
+    ON "Orders" (user_id, created_at DESC, order_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_inquiries_user_created
+    ON "Inquiries" (user_id, created_at DESC, inquiry_id DESC);
@@ -0,0 +1,14 @@
+-- ─────────────────────────────────────────────────────────
+-- 관리자 문의 큐 (InquiryQueueJdbcRepository)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+-- 상태 필터 + 최신순 키셋, 상태별 건수(GROUP BY status)도 이 인덱스만 읽음
+CREATE INDEX IF NOT EXISTS idx_inquiries_status_created
+    ON "Inquiries" (status, created_at DESC, inquiry_id DESC);
+
+-- 필터 없음 / 접수일 범위만 있을 때
+CREATE INDEX IF NOT EXISTS idx_inquiries_created
+    ON "Inquiries" (created_at DESC, inquiry_id DESC);
+
+-- 회원 필터는 history-pagination.sql 의 idx_inquiries_user_created (user_id, created_at DESC, inquiry_id DESC) 사용
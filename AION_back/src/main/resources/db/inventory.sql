@@ -0,0 +1,31 @@
+-- ─────────────────────────────────────────────────────────
+-- 재고 차감 / 결제 전 재고 예약 (InventoryService)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+-- 재고 음수 방지 (기존 데이터 검사는 생략: NOT VALID)
+-- ADD CONSTRAINT 에는 IF NOT EXISTS 가 없어 이미 있으면 건너뜀 (다시 실행해도 안전)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'chk_perfumes_total_stock_non_negative') THEN
+        ALTER TABLE "Perfumes"
+            ADD CONSTRAINT chk_perfumes_total_stock_non_negative CHECK (total_stock >= 0) NOT VALID;
+    END IF;
+END $$;
+
+-- 결제 진행 중인 카트의 재고 선점 (inventory.reservation.enabled=true 일 때만 사용)
+-- 예약 시점에 Perfumes.total_stock에서 이미 빠져 있고, 만료되면 스케줄러가 되돌린다.
+CREATE TABLE IF NOT EXISTS "Stock_Reservations" (
+    reservation_id BIGSERIAL PRIMARY KEY,
+    user_id        BIGINT    NOT NULL,
+    perfume_id     BIGINT    NOT NULL REFERENCES "Perfumes" (perfume_id) ON DELETE CASCADE,
+    quantity       INT       NOT NULL CHECK (quantity > 0),
+    created_at     TIMESTAMP NOT NULL DEFAULT NOW(),
+    expires_at     TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_user
+    ON "Stock_Reservations" (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_expires_at
+    ON "Stock_Reservations" (expires_at);
@@ -0,0 +1,33 @@
+-- ─────────────────────────────────────────────────────────
+-- 트랜잭션 아웃박스 (OutboxService / OutboxDispatcher)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+CREATE TABLE IF NOT EXISTS "Outbox_Events" (
+    event_id         BIGSERIAL    PRIMARY KEY,
+    event_type       VARCHAR(50)  NOT NULL,
+    aggregate_key    VARCHAR(100) NOT NULL,            -- 같은 키끼리는 event_id 순서대로 처리 (예: member:42)
+    idempotency_key  VARCHAR(200) NOT NULL UNIQUE,     -- 같은 작업이 두 번 적재되지 않도록
+    payload          JSONB        NOT NULL,
+    status           VARCHAR(20)  NOT NULL DEFAULT 'PENDING',   -- PENDING / PROCESSING / DONE / FAILED
+    attempts         INT          NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP    NOT NULL DEFAULT NOW(),
+    locked_until     TIMESTAMP,
+    last_error       TEXT,
+    created_at       TIMESTAMP    NOT NULL DEFAULT NOW(),
+    processed_at     TIMESTAMP
+);
+
+-- 처리 대기 조회 / 키별 선행 이벤트 확인 (완료분은 인덱스에서 제외)
+CREATE INDEX IF NOT EXISTS idx_outbox_events_ready
+    ON "Outbox_Events" (next_attempt_at, event_id)
+    WHERE status IN ('PENDING', 'PROCESSING');
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_aggregate
+    ON "Outbox_Events" (aggregate_key, event_id)
+    WHERE status IN ('PENDING', 'PROCESSING');
+
+-- 보관 기간 지난 완료 이벤트 삭제
+CREATE INDEX IF NOT EXISTS idx_outbox_events_processed_at
+    ON "Outbox_Events" (processed_at)
+    WHERE status = 'DONE';
@@ -0,0 +1,48 @@
+-- ─────────────────────────────────────────────────────────
+-- 포인트 원장: 소멸 예정 버킷 / 잔액 스냅샷 (PointService, PointExpiryService)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+-- 적립 한 건 = 버킷 하나. 사용 시 소멸일이 빠른 버킷부터 remaining을 깎고, 소멸일이 지나면 스케줄러가 0으로 만든다.
+-- 불변식: Users.total_points = 회원 버킷 remaining 합
+CREATE TABLE IF NOT EXISTS "Point_Buckets" (
+    bucket_id        BIGSERIAL PRIMARY KEY,
+    user_id          BIGINT    NOT NULL REFERENCES "Users" (user_id) ON DELETE CASCADE,
+    amount           INT       NOT NULL CHECK (amount > 0),
+    remaining        INT       NOT NULL CHECK (remaining >= 0),
+    expire_at        TIMESTAMP,                -- NULL이면 소멸 없음
+    related_order_id BIGINT,
+    created_at       TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 사용(FIFO) 대상: 회원별 남은 버킷만
+CREATE INDEX IF NOT EXISTS idx_point_buckets_user_live
+    ON "Point_Buckets" (user_id, expire_at, bucket_id) WHERE remaining > 0;
+
+-- 소멸 스윕 키셋 (expire_at, bucket_id)
+CREATE INDEX IF NOT EXISTS idx_point_buckets_expire_live
+    ON "Point_Buckets" (expire_at, bucket_id) WHERE remaining > 0;
+
+-- 회원별 잔액 스냅샷 (PK 조회 한 번으로 잔액 / 다음 소멸 예정 조회)
+CREATE TABLE IF NOT EXISTS "Point_Balance_Snapshots" (
+    user_id            BIGINT    PRIMARY KEY REFERENCES "Users" (user_id) ON DELETE CASCADE,
+    balance            INT       NOT NULL,
+    next_expire_at     TIMESTAMP,                -- 가장 빠른 소멸 예정일
+    next_expire_points INT       NOT NULL DEFAULT 0,  -- 그날 소멸 예정 포인트
+    updated_at         TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 기존 잔액 이관: 회원당 버킷 하나, 소멸일은 기존 적립 내역 중 가장 늦은 소멸일 (없으면 소멸 없음)
+INSERT INTO "Point_Buckets" (user_id, amount, remaining, expire_at)
+SELECT u.user_id, u.total_points, u.total_points,
+       (SELECT MAX(h.expire_at) FROM "Points_History" h WHERE h.user_id = u.user_id AND h.amount > 0)
+  FROM "Users" u
+ WHERE COALESCE(u.total_points, 0) > 0
+   AND NOT EXISTS (SELECT 1 FROM "Point_Buckets" b WHERE b.user_id = u.user_id);
+
+INSERT INTO "Point_Balance_Snapshots" (user_id, balance, next_expire_at, next_expire_points)
+SELECT b.user_id, SUM(b.remaining), MIN(b.expire_at), COALESCE(SUM(b.remaining) FILTER (WHERE b.expire_at IS NOT NULL), 0)
+  FROM "Point_Buckets" b
+ WHERE b.remaining > 0
+ GROUP BY b.user_id
+ON CONFLICT (user_id) DO NOTHING;
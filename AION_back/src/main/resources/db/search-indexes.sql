@@ -0,0 +1,22 @@
+-- ─────────────────────────────────────────────────────────
+-- 향수 검색 인덱스 (search.mode=fulltext)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ─────────────────────────────────────────────────────────
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 전문 검색: 이름 + 영문명 + 설명 (한국어 형태소 사전이 없어 'simple' 설정 사용)
+CREATE INDEX IF NOT EXISTS idx_perfumes_search_doc
+    ON "Perfumes"
+    USING GIN (to_tsvector('simple',
+        coalesce(name, '') || ' ' || coalesce(name_en, '') || ' ' || coalesce(description, '')));
+
+-- 부분 일치 / 오타 허용 / 접두어 자동완성 (ILIKE, %, similarity)
+CREATE INDEX IF NOT EXISTS idx_perfumes_name_trgm
+    ON "Perfumes" USING GIN (name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_perfumes_name_en_trgm
+    ON "Perfumes" USING GIN (name_en gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_brands_brand_name_trgm
+    ON "Brands" USING GIN (brand_name gin_trgm_ops);
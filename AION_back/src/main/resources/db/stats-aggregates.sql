@@ -0,0 +1,14 @@
+-- ─────────────────────────────────────────────────────────
+-- 통계 테이블 증분 UPSERT용 유니크 인덱스 (StatsAggregator)
+-- spring.jpa.hibernate.ddl-auto=none 이므로 Supabase SQL Editor에서 직접 실행
+-- ON CONFLICT 대상 컬럼에 유니크 인덱스가 있어야 한다.
+-- ─────────────────────────────────────────────────────────
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_daily_revenue_stats_stat_date
+    ON "Daily_Revenue_Stats" (stat_date);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_dashboard_stats_perfume_id
+    ON "Dashboard_Stats" (perfume_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_ingredient_usage_stats_ingredient_id
+    ON "Ingredient_Usage_Stats" (ingredient_id);